@@ -0,0 +1,17 @@
+package com.supplyboost.events;
+
+import java.util.List;
+
+/** Every top-level event contract; schema registries preload all of their versions. */
+public final class EventContracts {
+
+  public static final List<Class<?>> ALL =
+      List.of(
+          OrderCreatedEvent.class,
+          OrderStatusChangedEvent.class,
+          PaymentProcessedEvent.class,
+          ShipmentRequestedEvent.class,
+          ShipmentEvent.class);
+
+  private EventContracts() {}
+}
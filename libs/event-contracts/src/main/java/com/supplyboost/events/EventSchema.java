@@ -0,0 +1,18 @@
+package com.supplyboost.events;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a top-level event contract and the schema version the class currently matches. The schema
+ * lives at {@code schemas/<SimpleName>/v<version>.avsc}; earlier versions stay alongside it so
+ * consumers can still decode records written by older producers.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EventSchema {
+
+  int version();
+}
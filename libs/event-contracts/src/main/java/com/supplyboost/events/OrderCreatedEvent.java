@@ -1,4 +1,4 @@
-package com.supplyboost.ordermanagement.event;
+package com.supplyboost.events;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -8,18 +8,25 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/** Published to {@code order.created} when an order is placed. */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@EventSchema(version = 2)
 public class OrderCreatedEvent {
 
   private Long orderId;
   private String orderNumber;
   private Long userId;
+  private String customerName;
+  private String customerEmail;
+  private String customerPhone;
+  private String status;
   private List<OrderItemEvent> items;
   private BigDecimal totalAmount;
-  private String customerEmail;
-  private String customerName;
   private LocalDateTime createdAt;
+  private String currency;
+  private String shippingPostalCode;
+  private String shippingCountry;
 }
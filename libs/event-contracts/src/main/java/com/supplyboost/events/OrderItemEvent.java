@@ -1,4 +1,4 @@
-package com.supplyboost.ordermanagement.event;
+package com.supplyboost.events;
 
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/** Line item carried by {@link OrderCreatedEvent}. */
 @Data
 @Builder
 @NoArgsConstructor
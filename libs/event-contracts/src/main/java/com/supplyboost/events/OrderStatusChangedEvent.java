@@ -0,0 +1,23 @@
+package com.supplyboost.events;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Published to {@code order.status.changed} on every order status transition. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EventSchema(version = 1)
+public class OrderStatusChangedEvent {
+
+  private Long orderId;
+  private String orderNumber;
+  private String oldStatus;
+  private String newStatus;
+  private String reason;
+  private LocalDateTime changedAt;
+}
@@ -1,4 +1,4 @@
-package com.supplyboost.notification.event;
+package com.supplyboost.events;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -7,20 +7,23 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/** Published to {@code payment.processed} once a payment succeeds or fails. */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@EventSchema(version = 1)
 public class PaymentProcessedEvent {
 
   private Long paymentId;
   private String paymentNumber;
   private Long orderId;
   private String orderNumber;
+  private Long userId;
   private BigDecimal amount;
   private String currency;
+  private String status; // SUCCEEDED, FAILED, ...
   private String paymentMethod;
-  private String status;
   private String customerEmail;
   private String customerName;
   private String failureReason;
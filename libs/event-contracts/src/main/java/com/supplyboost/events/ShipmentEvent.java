@@ -1,4 +1,4 @@
-package com.supplyboost.notification.event;
+package com.supplyboost.events;
 
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -6,12 +6,15 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/** Published to {@code shipment.created} and {@code shipment.status.updated}. */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ShipmentCreatedEvent {
+@EventSchema(version = 1)
+public class ShipmentEvent {
 
+  private String correlationId;
   private Long shipmentId;
   private String shipmentNumber;
   private String trackingNumber;
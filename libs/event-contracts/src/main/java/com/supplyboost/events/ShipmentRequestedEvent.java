@@ -0,0 +1,34 @@
+package com.supplyboost.events;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Command published to {@code shipment.requested} by the order saga. Shipping-service replies on
+ * {@code shipment.created} with the same {@code correlationId}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EventSchema(version = 1)
+public class ShipmentRequestedEvent {
+
+  private String correlationId;
+  private Long orderId;
+  private String orderNumber;
+  private Long userId;
+  private String recipientName;
+  private String recipientEmail;
+  private String recipientPhone;
+  private String addressLine1;
+  private String addressLine2;
+  private String city;
+  private String state;
+  private String postalCode;
+  private String country;
+  private LocalDateTime requestedAt;
+}
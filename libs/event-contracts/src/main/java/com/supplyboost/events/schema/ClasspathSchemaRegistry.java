@@ -0,0 +1,63 @@
+package com.supplyboost.events.schema;
+
+import com.supplyboost.events.EventContracts;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+
+/**
+ * Registry backed by the {@code schemas/} resources shipped in this module. Every version of every
+ * contract is bundled, so no external registry is needed at runtime.
+ */
+public class ClasspathSchemaRegistry implements SchemaRegistry {
+
+  private static final ClasspathSchemaRegistry INSTANCE =
+      new ClasspathSchemaRegistry(EventContracts.ALL);
+
+  private final Map<Class<?>, Schema> current = new HashMap<>();
+  private final Map<Long, Schema> byFingerprint = new HashMap<>();
+
+  ClasspathSchemaRegistry(Collection<Class<?>> eventTypes) {
+    for (Class<?> eventType : eventTypes) {
+      String subject = EventSchemas.subject(eventType);
+      int version = EventSchemas.version(eventType);
+      for (int v = 1; v <= version; v++) {
+        Schema schema = load(subject, v);
+        byFingerprint.put(SchemaNormalization.parsingFingerprint64(schema), schema);
+        if (v == version) {
+          current.put(eventType, schema);
+        }
+      }
+    }
+  }
+
+  public static ClasspathSchemaRegistry getInstance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public Schema schemaFor(Class<?> eventType) {
+    Schema schema = current.get(eventType);
+    if (schema == null) {
+      throw new IllegalArgumentException(eventType.getName() + " is not an event contract");
+    }
+    return schema;
+  }
+
+  @Override
+  public Schema findByFingerprint(long fingerprint) {
+    return byFingerprint.get(fingerprint);
+  }
+
+  private static Schema load(String subject, int version) {
+    String path = "schemas/" + subject + "/" + EventSchemas.fileName(version);
+    InputStream in = ClasspathSchemaRegistry.class.getClassLoader().getResourceAsStream(path);
+    if (in == null) {
+      throw new IllegalStateException("Missing event schema " + path);
+    }
+    return EventSchemas.parse(in);
+  }
+}
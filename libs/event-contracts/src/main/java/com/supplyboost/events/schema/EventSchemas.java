@@ -0,0 +1,36 @@
+package com.supplyboost.events.schema;
+
+import com.supplyboost.events.EventSchema;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import org.apache.avro.Schema;
+
+final class EventSchemas {
+
+  private EventSchemas() {}
+
+  static String subject(Class<?> eventType) {
+    return eventType.getSimpleName();
+  }
+
+  static int version(Class<?> eventType) {
+    EventSchema annotation = eventType.getAnnotation(EventSchema.class);
+    if (annotation == null) {
+      throw new IllegalArgumentException(eventType.getName() + " is not an event contract");
+    }
+    return annotation.version();
+  }
+
+  static String fileName(int version) {
+    return "v" + version + ".avsc";
+  }
+
+  static Schema parse(InputStream in) {
+    try (in) {
+      return new Schema.Parser().parse(in);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
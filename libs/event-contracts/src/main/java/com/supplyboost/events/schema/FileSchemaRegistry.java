@@ -0,0 +1,92 @@
+package com.supplyboost.events.schema;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+
+/**
+ * Directory-backed stand-in for a schema registry, laid out as {@code <subject>/v<n>.avsc}.
+ * Intended for tests and local runs: several producers and consumers can share one directory, new
+ * versions can be registered on the fly, and unknown fingerprints trigger a rescan.
+ */
+public class FileSchemaRegistry implements SchemaRegistry {
+
+  private final Path directory;
+  private final SchemaRegistry fallback;
+  private final Map<Long, Schema> byFingerprint = new ConcurrentHashMap<>();
+
+  public FileSchemaRegistry(Path directory) {
+    this(directory, ClasspathSchemaRegistry.getInstance());
+  }
+
+  public FileSchemaRegistry(Path directory, SchemaRegistry fallback) {
+    this.directory = directory;
+    this.fallback = fallback;
+    rescan();
+  }
+
+  /** Writes the schema as the given subject version, replacing any existing file. */
+  public synchronized Schema register(String subject, int version, Schema schema) {
+    try {
+      Path file = directory.resolve(subject).resolve(EventSchemas.fileName(version));
+      Files.createDirectories(file.getParent());
+      Files.writeString(file, schema.toString(true));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    byFingerprint.put(SchemaNormalization.parsingFingerprint64(schema), schema);
+    return schema;
+  }
+
+  /** Uses the registered file for the class's version, registering the bundled one if absent. */
+  @Override
+  public Schema schemaFor(Class<?> eventType) {
+    String subject = EventSchemas.subject(eventType);
+    int version = EventSchemas.version(eventType);
+    Path file = directory.resolve(subject).resolve(EventSchemas.fileName(version));
+    if (Files.exists(file)) {
+      return read(file);
+    }
+    return register(subject, version, fallback.schemaFor(eventType));
+  }
+
+  @Override
+  public Schema findByFingerprint(long fingerprint) {
+    Schema schema = byFingerprint.get(fingerprint);
+    if (schema == null) {
+      rescan();
+      schema = byFingerprint.get(fingerprint);
+    }
+    return schema != null ? schema : fallback.findByFingerprint(fingerprint);
+  }
+
+  private synchronized void rescan() {
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    try (Stream<Path> files = Files.walk(directory)) {
+      files
+          .filter(path -> path.getFileName().toString().endsWith(".avsc"))
+          .map(FileSchemaRegistry::read)
+          .forEach(
+              schema ->
+                  byFingerprint.put(SchemaNormalization.parsingFingerprint64(schema), schema));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Schema read(Path file) {
+    try {
+      return EventSchemas.parse(Files.newInputStream(file));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.supplyboost.events.schema;
+
+import org.apache.avro.Schema;
+import org.apache.avro.message.SchemaStore;
+
+/**
+ * Resolves event schemas. Writers encode with {@link #schemaFor}; readers look up the writer's
+ * schema by its 64-bit parsing fingerprint and resolve it against their own version.
+ */
+public interface SchemaRegistry extends SchemaStore {
+
+  /** The schema version the given contract class currently matches. */
+  Schema schemaFor(Class<?> eventType);
+}
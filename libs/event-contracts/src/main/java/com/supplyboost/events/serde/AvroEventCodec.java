@@ -0,0 +1,70 @@
+package com.supplyboost.events.serde;
+
+import com.supplyboost.events.schema.SchemaRegistry;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Avro single-object encoding of the contract POJOs: a two-byte marker, the writer schema's 8-byte
+ * fingerprint, then the binary record. No field names travel on the wire, and readers resolve older
+ * or newer writer schemas through the {@link SchemaRegistry}.
+ */
+public class AvroEventCodec implements EventCodec {
+
+  private static final byte MARKER_0 = (byte) 0xC3;
+  private static final byte MARKER_1 = (byte) 0x01;
+  private static final int HEADER_LENGTH = 10;
+
+  private final SchemaRegistry registry;
+  private final ReflectData model;
+  private final Map<Class<?>, BinaryMessageEncoder<Object>> encoders = new ConcurrentHashMap<>();
+  private final Map<Class<?>, BinaryMessageDecoder<?>> decoders = new ConcurrentHashMap<>();
+
+  public AvroEventCodec(SchemaRegistry registry) {
+    this.registry = registry;
+    this.model = new ReflectData();
+    model.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
+  }
+
+  @Override
+  public byte[] encode(Object event) {
+    BinaryMessageEncoder<Object> encoder =
+        encoders.computeIfAbsent(
+            event.getClass(), type -> new BinaryMessageEncoder<>(model, registry.schemaFor(type)));
+    try {
+      ByteBuffer buffer = encoder.encode(event);
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      return bytes;
+    } catch (IOException | AvroRuntimeException e) {
+      throw new SerializationException("Failed to encode " + event.getClass().getName(), e);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T decode(byte[] data, Class<T> type) {
+    BinaryMessageDecoder<T> decoder =
+        (BinaryMessageDecoder<T>)
+            decoders.computeIfAbsent(
+                type, t -> new BinaryMessageDecoder<>(model, registry.schemaFor(t), registry));
+    try {
+      return decoder.decode(data);
+    } catch (IOException | AvroRuntimeException e) {
+      throw new SerializationException("Failed to decode " + type.getName(), e);
+    }
+  }
+
+  @Override
+  public boolean canDecode(byte[] data) {
+    return data.length >= HEADER_LENGTH && data[0] == MARKER_0 && data[1] == MARKER_1;
+  }
+}
@@ -0,0 +1,14 @@
+package com.supplyboost.events.serde;
+
+/**
+ * Wire encoding for event contracts. Implementations must recognise their own payloads so a
+ * deserializer can read topics that hold a mix of encodings during a migration.
+ */
+public interface EventCodec {
+
+  byte[] encode(Object event);
+
+  <T> T decode(byte[] data, Class<T> type);
+
+  boolean canDecode(byte[] data);
+}
@@ -0,0 +1,51 @@
+package com.supplyboost.events.serde;
+
+import com.supplyboost.events.schema.ClasspathSchemaRegistry;
+import com.supplyboost.events.schema.SchemaRegistry;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Kafka value deserializer for event contracts. The encoding is detected per record, so topics
+ * still holding JSON written before the Avro switch remain readable.
+ */
+public class EventDeserializer implements Deserializer<Object> {
+
+  private Class<?> valueType;
+  private List<EventCodec> codecs = defaultCodecs(ClasspathSchemaRegistry.getInstance());
+
+  public EventDeserializer() {}
+
+  public EventDeserializer(Class<?> valueType) {
+    this.valueType = valueType;
+  }
+
+  @Override
+  public void configure(Map<String, ?> configs, boolean isKey) {
+    if (valueType == null) {
+      valueType = EventSerdeConfig.valueType(configs.get(EventSerdeConfig.VALUE_TYPE));
+    }
+    if (configs.containsKey(EventSerdeConfig.SCHEMA_REGISTRY_DIR)) {
+      codecs = defaultCodecs(EventSerdeConfig.registry(configs));
+    }
+  }
+
+  @Override
+  public Object deserialize(String topic, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+    for (EventCodec codec : codecs) {
+      if (codec.canDecode(data)) {
+        return codec.decode(data, valueType);
+      }
+    }
+    throw new SerializationException("Unrecognised event encoding on topic " + topic);
+  }
+
+  private static List<EventCodec> defaultCodecs(SchemaRegistry registry) {
+    return List.of(new AvroEventCodec(registry), new JsonEventCodec());
+  }
+}
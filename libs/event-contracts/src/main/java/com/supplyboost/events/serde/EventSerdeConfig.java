@@ -0,0 +1,61 @@
+package com.supplyboost.events.serde;
+
+import com.supplyboost.events.schema.ClasspathSchemaRegistry;
+import com.supplyboost.events.schema.FileSchemaRegistry;
+import com.supplyboost.events.schema.SchemaRegistry;
+import java.nio.file.Path;
+import java.util.Map;
+import org.apache.kafka.common.config.ConfigException;
+
+/** Kafka client properties understood by {@link EventSerializer} and {@link EventDeserializer}. */
+public final class EventSerdeConfig {
+
+  /** {@code avro} (default), {@code json}, or the class name of an {@link EventCodec}. */
+  public static final String CODEC = "supplyboost.events.codec";
+
+  /** Contract class a deserializer produces. */
+  public static final String VALUE_TYPE = "supplyboost.events.value.type";
+
+  /** Directory for a {@link FileSchemaRegistry}; the bundled schemas are used when unset. */
+  public static final String SCHEMA_REGISTRY_DIR = "supplyboost.events.schema-registry.dir";
+
+  private EventSerdeConfig() {}
+
+  static SchemaRegistry registry(Map<String, ?> configs) {
+    Object directory = configs.get(SCHEMA_REGISTRY_DIR);
+    if (directory == null || directory.toString().isBlank()) {
+      return ClasspathSchemaRegistry.getInstance();
+    }
+    return new FileSchemaRegistry(Path.of(directory.toString()));
+  }
+
+  static EventCodec codec(Object name, SchemaRegistry registry) {
+    String codec = name == null ? "avro" : name.toString();
+    switch (codec) {
+      case "avro":
+        return new AvroEventCodec(registry);
+      case "json":
+        return new JsonEventCodec();
+      default:
+        try {
+          return (EventCodec) Class.forName(codec).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+          throw new ConfigException(CODEC, codec, "Not an EventCodec: " + e.getMessage());
+        }
+    }
+  }
+
+  static Class<?> valueType(Object type) {
+    if (type instanceof Class<?> clazz) {
+      return clazz;
+    }
+    if (type == null) {
+      throw new ConfigException(VALUE_TYPE + " must be set");
+    }
+    try {
+      return Class.forName(type.toString());
+    } catch (ClassNotFoundException e) {
+      throw new ConfigException(VALUE_TYPE, type, "Class not found");
+    }
+  }
+}
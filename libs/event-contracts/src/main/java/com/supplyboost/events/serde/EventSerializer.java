@@ -0,0 +1,36 @@
+package com.supplyboost.events.serde;
+
+import com.supplyboost.events.schema.ClasspathSchemaRegistry;
+import java.util.Map;
+import org.apache.kafka.common.serialization.Serializer;
+
+/** Kafka value serializer for event contracts, Avro-encoded unless configured otherwise. */
+public class EventSerializer implements Serializer<Object> {
+
+  private EventCodec codec = new AvroEventCodec(ClasspathSchemaRegistry.getInstance());
+
+  public EventSerializer() {}
+
+  public EventSerializer(EventCodec codec) {
+    this.codec = codec;
+  }
+
+  @Override
+  public void configure(Map<String, ?> configs, boolean isKey) {
+    if (configs.containsKey(EventSerdeConfig.CODEC)
+        || configs.containsKey(EventSerdeConfig.SCHEMA_REGISTRY_DIR)) {
+      codec =
+          EventSerdeConfig.codec(
+              configs.get(EventSerdeConfig.CODEC), EventSerdeConfig.registry(configs));
+    }
+  }
+
+  /** Already-encoded payloads, such as dead-lettered undeserializable records, pass through. */
+  @Override
+  public byte[] serialize(String topic, Object data) {
+    if (data == null) {
+      return null;
+    }
+    return data instanceof byte[] bytes ? bytes : codec.encode(data);
+  }
+}
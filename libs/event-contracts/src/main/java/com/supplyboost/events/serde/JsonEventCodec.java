@@ -0,0 +1,40 @@
+package com.supplyboost.events.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.kafka.support.JacksonUtils;
+
+/** Plain JSON, byte-compatible with what Spring's {@code JsonSerializer} used to publish. */
+public class JsonEventCodec implements EventCodec {
+
+  private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+  @Override
+  public byte[] encode(Object event) {
+    try {
+      return objectMapper.writeValueAsBytes(event);
+    } catch (IOException e) {
+      throw new SerializationException("Failed to encode " + event.getClass().getName(), e);
+    }
+  }
+
+  @Override
+  public <T> T decode(byte[] data, Class<T> type) {
+    try {
+      return objectMapper.readValue(data, type);
+    } catch (IOException e) {
+      throw new SerializationException("Failed to decode " + type.getName(), e);
+    }
+  }
+
+  @Override
+  public boolean canDecode(byte[] data) {
+    for (byte b : data) {
+      if (!Character.isWhitespace(b)) {
+        return b == '{';
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,136 @@
+package com.supplyboost.events.serde;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.supplyboost.events.OrderCreatedEvent;
+import com.supplyboost.events.OrderItemEvent;
+import com.supplyboost.events.PaymentProcessedEvent;
+import com.supplyboost.events.schema.ClasspathSchemaRegistry;
+import com.supplyboost.events.schema.FileSchemaRegistry;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EventCodecTest {
+
+  private final AvroEventCodec avroCodec =
+      new AvroEventCodec(ClasspathSchemaRegistry.getInstance());
+
+  private final JsonEventCodec jsonCodec = new JsonEventCodec();
+
+  private PaymentProcessedEvent payment() {
+    return PaymentProcessedEvent.builder()
+        .paymentId(42L)
+        .paymentNumber("PAY-1700000000000-ab12cd34")
+        .orderId(7L)
+        .orderNumber("ORD-1700000000000-ef56ab78")
+        .amount(new BigDecimal("129.90"))
+        .currency("USD")
+        .status("SUCCEEDED")
+        .paymentMethod("card")
+        .customerEmail("jane@example.com")
+        .customerName("Jane Doe")
+        .eventTime(LocalDateTime.of(2025, 11, 20, 10, 15, 30, 123_000_000))
+        .build();
+  }
+
+  @Test
+  void avro_ShouldRoundTripContract() {
+    // Arrange
+    PaymentProcessedEvent event = payment();
+
+    // Act
+    PaymentProcessedEvent decoded =
+        avroCodec.decode(avroCodec.encode(event), PaymentProcessedEvent.class);
+
+    // Assert
+    assertEquals(event, decoded);
+  }
+
+  @Test
+  void avro_ShouldRoundTripNestedItems() {
+    // Arrange
+    OrderCreatedEvent event =
+        OrderCreatedEvent.builder()
+            .orderId(1L)
+            .orderNumber("ORD-1")
+            .items(
+                new ArrayList<>(
+                    List.of(
+                        OrderItemEvent.builder()
+                            .productId(3L)
+                            .productName("Widget")
+                            .quantity(2)
+                            .unitPrice(new BigDecimal("9.99"))
+                            .subtotal(new BigDecimal("19.98"))
+                            .build())))
+            .totalAmount(new BigDecimal("19.98"))
+            .build();
+
+    // Act
+    OrderCreatedEvent decoded = avroCodec.decode(avroCodec.encode(event), OrderCreatedEvent.class);
+
+    // Assert
+    assertEquals(event, decoded);
+  }
+
+  @Test
+  void avro_ShouldBeSmallerThanJson() {
+    // Act
+    int avroSize = avroCodec.encode(payment()).length;
+    int jsonSize = jsonCodec.encode(payment()).length;
+
+    // Assert
+    assertTrue(avroSize * 2 < jsonSize, "avro=" + avroSize + " json=" + jsonSize);
+  }
+
+  @Test
+  void deserializer_ShouldReadLegacyJsonAndAvro() {
+    // Arrange
+    EventDeserializer deserializer = new EventDeserializer(PaymentProcessedEvent.class);
+
+    // Act & Assert
+    assertEquals(
+        payment(), deserializer.deserialize("payment.processed", jsonCodec.encode(payment())));
+    assertEquals(
+        payment(), deserializer.deserialize("payment.processed", avroCodec.encode(payment())));
+  }
+
+  @Test
+  void fileRegistry_ShouldResolveNewerWriterSchema(@TempDir Path registryDir) throws Exception {
+    // Arrange: a producer on v2 adds a field the consumer's v1 class does not know
+    FileSchemaRegistry registry = new FileSchemaRegistry(registryDir);
+    Schema v1 = registry.schemaFor(PaymentProcessedEvent.class);
+    List<Schema.Field> fields = new ArrayList<>();
+    v1.getFields().forEach(f -> fields.add(new Schema.Field(f, f.schema())));
+    fields.add(new Schema.Field("refundable", Schema.create(Schema.Type.BOOLEAN), null, false));
+    Schema v2 = Schema.createRecord(v1.getName(), null, v1.getNamespace(), false, fields);
+    new FileSchemaRegistry(registryDir).register("PaymentProcessedEvent", 2, v2);
+
+    GenericRecord record = new GenericData.Record(v2);
+    record.put("paymentNumber", "PAY-2");
+    record.put("amount", "10.00");
+    record.put("refundable", true);
+    ByteBuffer encoded =
+        new BinaryMessageEncoder<GenericRecord>(GenericData.get(), v2).encode(record);
+    byte[] bytes = new byte[encoded.remaining()];
+    encoded.get(bytes);
+
+    // Act
+    PaymentProcessedEvent decoded =
+        new AvroEventCodec(registry).decode(bytes, PaymentProcessedEvent.class);
+
+    // Assert
+    assertEquals("PAY-2", decoded.getPaymentNumber());
+    assertEquals(new BigDecimal("10.00"), decoded.getAmount());
+  }
+}
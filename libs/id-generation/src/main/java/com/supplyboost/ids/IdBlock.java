@@ -0,0 +1,26 @@
+package com.supplyboost.ids;
+
+/** A run of IDs reserved together; {@link #get} computes each one without allocating. */
+public final class IdBlock {
+
+  private final SnowflakeIdGenerator generator;
+  private final long firstTick;
+  private final int size;
+
+  IdBlock(SnowflakeIdGenerator generator, long firstTick, int size) {
+    this.generator = generator;
+    this.firstTick = firstTick;
+    this.size = size;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public long get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " outside block of " + size);
+    }
+    return generator.toId(firstTick + index);
+  }
+}
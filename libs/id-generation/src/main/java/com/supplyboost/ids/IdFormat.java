@@ -0,0 +1,60 @@
+package com.supplyboost.ids;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Renders IDs as business numbers. Each call fills one exact-size byte array and builds the string
+ * from it, with no intermediate strings, formatters or builders.
+ */
+public final class IdFormat {
+
+  /** Crockford base32: no I, L, O or U, so numbers survive being read out over the phone. */
+  private static final byte[] BASE32 =
+      "0123456789ABCDEFGHJKMNPQRSTVWXYZ".getBytes(StandardCharsets.US_ASCII);
+
+  /** Base32 digits in a 64-bit value. */
+  public static final int BASE32_WIDTH = 13;
+
+  /** Decimal digits in a positive 64-bit value. */
+  public static final int DECIMAL_WIDTH = 19;
+
+  private IdFormat() {}
+
+  /**
+   * {@code prefix} followed by the ID in fixed-width base32, e.g. {@code ORD-01JB8XKQ4ZC2M}. Fixed
+   * width keeps string order equal to ID order.
+   */
+  public static String base32(String prefix, long id) {
+    byte[] out = withPrefix(prefix, BASE32_WIDTH);
+    for (int i = out.length - 1; i >= prefix.length(); i--) {
+      out[i] = BASE32[(int) (id & 31)];
+      id >>>= 5;
+    }
+    return new String(out, StandardCharsets.ISO_8859_1);
+  }
+
+  /** {@code prefix} followed by the ID in zero-padded decimal, for numeric-only formats. */
+  public static String decimal(String prefix, long id) {
+    if (id < 0) {
+      throw new IllegalArgumentException("ID must not be negative");
+    }
+    byte[] out = withPrefix(prefix, DECIMAL_WIDTH);
+    for (int i = out.length - 1; i >= prefix.length(); i--) {
+      out[i] = (byte) ('0' + id % 10);
+      id /= 10;
+    }
+    return new String(out, StandardCharsets.ISO_8859_1);
+  }
+
+  private static byte[] withPrefix(String prefix, int digits) {
+    byte[] out = new byte[prefix.length() + digits];
+    for (int i = 0; i < prefix.length(); i++) {
+      char c = prefix.charAt(i);
+      if (c > 0x7F) {
+        throw new IllegalArgumentException("Prefix must be ASCII: " + prefix);
+      }
+      out[i] = (byte) c;
+    }
+    return out;
+  }
+}
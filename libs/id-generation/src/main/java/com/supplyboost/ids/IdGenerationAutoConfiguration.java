@@ -0,0 +1,77 @@
+package com.supplyboost.ids;
+
+import java.net.InetAddress;
+import java.net.InterfaceAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@Slf4j
+@AutoConfiguration
+@EnableConfigurationProperties(IdGenerationProperties.class)
+public class IdGenerationAutoConfiguration {
+
+  private static final int NODE_ID_BITS = Integer.bitCount(SnowflakeIdGenerator.MAX_NODE_ID);
+
+  @Bean
+  @ConditionalOnMissingBean
+  public SnowflakeIdGenerator snowflakeIdGenerator(IdGenerationProperties properties) {
+    int nodeId = properties.getNodeId() != null ? properties.getNodeId() : addressNodeId();
+    log.info("Issuing IDs as node {}", nodeId);
+    return new SnowflakeIdGenerator(nodeId);
+  }
+
+  /**
+   * Pod IPs are unique, and a subnet with at most 10 host bits (/22 for IPv4) keeps the low 10 bits
+   * unique too. On a wider or unknown subnet two instances can collide, so the property is required
+   * there. Loopback is allowed for a single instance on a developer machine.
+   */
+  private static int addressNodeId() {
+    InetAddress host;
+    try {
+      host = InetAddress.getLocalHost();
+    } catch (UnknownHostException e) {
+      throw new IllegalStateException("Cannot derive a node ID; set ids.node-id", e);
+    }
+    byte[] address = host.getAddress();
+    int prefixLength = prefixLength(host);
+    if (!host.isLoopbackAddress()
+        && (prefixLength < 0 || address.length * 8 - prefixLength > NODE_ID_BITS)) {
+      throw new IllegalStateException(
+          "Cannot derive a unique node ID from "
+              + host.getHostAddress()
+              + (prefixLength < 0 ? " on an unknown subnet" : "/" + prefixLength)
+              + "; set ids.node-id");
+    }
+    int low = ((address[address.length - 2] & 0xFF) << 8) | (address[address.length - 1] & 0xFF);
+    int nodeId = low & SnowflakeIdGenerator.MAX_NODE_ID;
+    log.warn(
+        "ids.node-id is not set; derived node {} from {}/{}. Set it explicitly unless every"
+            + " instance shares this subnet",
+        nodeId,
+        host.getHostAddress(),
+        prefixLength);
+    return nodeId;
+  }
+
+  private static int prefixLength(InetAddress host) {
+    try {
+      NetworkInterface network = NetworkInterface.getByInetAddress(host);
+      if (network != null) {
+        for (InterfaceAddress interfaceAddress : network.getInterfaceAddresses()) {
+          if (host.equals(interfaceAddress.getAddress())) {
+            return interfaceAddress.getNetworkPrefixLength();
+          }
+        }
+      }
+    } catch (SocketException e) {
+      log.debug("Cannot read the subnet of {}", host, e);
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,16 @@
+package com.supplyboost.ids;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "ids")
+public class IdGenerationProperties {
+
+  /**
+   * 0-1023, unique among running instances of every service that shares a number space. If unset,
+   * it is derived from the low 10 bits of the host's address, and startup fails unless the host's
+   * subnet is /22 or smaller.
+   */
+  private Integer nodeId;
+}
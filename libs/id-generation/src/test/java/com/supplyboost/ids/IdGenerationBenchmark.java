@@ -0,0 +1,58 @@
+package com.supplyboost.ids;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Business number generation against the timestamp-plus-UUID scheme it replaced. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGenerationBenchmark {
+
+  private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+
+  @Benchmark
+  public long nextId() {
+    return generator.nextId();
+  }
+
+  @Benchmark
+  public long nextBlockOf100() {
+    IdBlock block = generator.nextBlock(100);
+    long last = 0;
+    for (int i = 0; i < block.size(); i++) {
+      last = block.get(i);
+    }
+    return last;
+  }
+
+  @Benchmark
+  public String orderNumber() {
+    return IdFormat.base32("ORD-", generator.nextId());
+  }
+
+  @Benchmark
+  public String trackingNumber() {
+    return IdFormat.decimal("1Z", generator.nextId());
+  }
+
+  @Benchmark
+  public String legacyOrderNumber() {
+    return "ORD-"
+        + System.currentTimeMillis()
+        + "-"
+        + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+  }
+}
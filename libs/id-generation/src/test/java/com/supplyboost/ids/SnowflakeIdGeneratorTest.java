@@ -0,0 +1,105 @@
+package com.supplyboost.ids;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdGeneratorTest {
+
+  private final AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH.toEpochMilli() + 1000);
+  private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(42, clock::get);
+
+  @Test
+  void nextId_ShouldEncodeTimeAndNode() {
+    // Act
+    long id = generator.nextId();
+
+    // Assert
+    assertEquals(42, SnowflakeIdGenerator.nodeIdOf(id));
+    assertEquals(SnowflakeIdGenerator.EPOCH.plusSeconds(1), SnowflakeIdGenerator.timestampOf(id));
+  }
+
+  @Test
+  void nextId_ShouldKeepIncreasingWhenClockStepsBackOrSequenceRunsOut() {
+    // Arrange
+    long previous = generator.nextId();
+
+    // Act & Assert
+    for (int i = 0; i < 10_000; i++) {
+      if (i == 5_000) {
+        clock.addAndGet(-500);
+      }
+      long id = generator.nextId();
+      assertTrue(id > previous, "ID " + i + " went backwards");
+      assertEquals(42, SnowflakeIdGenerator.nodeIdOf(id));
+      previous = id;
+    }
+  }
+
+  @Test
+  void nextBlock_ShouldReserveDistinctIncreasingIds() {
+    // Arrange
+    long before = generator.nextId();
+
+    // Act
+    IdBlock block = generator.nextBlock(5_000);
+    long after = generator.nextId();
+
+    // Assert
+    long previous = before;
+    for (int i = 0; i < block.size(); i++) {
+      assertTrue(block.get(i) > previous);
+      previous = block.get(i);
+    }
+    assertTrue(after > previous);
+    assertThrows(IndexOutOfBoundsException.class, () -> block.get(5_000));
+  }
+
+  @Test
+  void nextId_ShouldNotRepeatAcrossThreads() throws InterruptedException {
+    // Arrange
+    SnowflakeIdGenerator shared = new SnowflakeIdGenerator(7);
+    Set<Long> ids = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // Act
+    for (int t = 0; t < 8; t++) {
+      executor.execute(
+          () -> {
+            for (int i = 0; i < 50_000; i++) {
+              ids.add(shared.nextId());
+            }
+          });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+    // Assert
+    assertEquals(400_000, ids.size());
+  }
+
+  @Test
+  void format_ShouldBeFixedWidthAndSortLikeIds() {
+    // Arrange
+    long earlier = generator.nextId();
+    clock.addAndGet(86_400_000L);
+    long later = generator.nextId();
+
+    // Act
+    String first = IdFormat.base32("ORD-", earlier);
+    String second = IdFormat.base32("ORD-", later);
+    String tracking = IdFormat.decimal("1Z", later);
+
+    // Assert
+    assertEquals(17, first.length());
+    assertTrue(first.startsWith("ORD-"));
+    assertTrue(first.compareTo(second) < 0);
+    assertEquals("1Z" + String.format("%019d", later), tracking);
+  }
+}
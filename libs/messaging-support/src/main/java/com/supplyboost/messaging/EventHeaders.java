@@ -0,0 +1,33 @@
+package com.supplyboost.messaging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/** Kafka record headers shared by all SupplyBoost publishers and consumers. */
+public final class EventHeaders {
+
+  /** Unique ID of a published event, stable across redeliveries of the same record. */
+  public static final String EVENT_ID = "x-event-id";
+
+  private EventHeaders() {}
+
+  /**
+   * A name-based event ID. A publisher that may send the same logical event again, such as a reply
+   * to a redelivered command, derives the ID from what identifies the event. Consumers then drop
+   * the resend like any other redelivery.
+   */
+  public static String eventIdOf(String... parts) {
+    return UUID.nameUUIDFromBytes(String.join("\u0000", parts).getBytes(StandardCharsets.UTF_8))
+        .toString();
+  }
+
+  public static String eventId(Headers headers) {
+    Header header = headers.lastHeader(EVENT_ID);
+    if (header == null || header.value() == null) {
+      return null;
+    }
+    return new String(header.value(), StandardCharsets.UTF_8);
+  }
+}
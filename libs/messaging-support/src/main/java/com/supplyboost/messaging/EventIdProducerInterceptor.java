@@ -0,0 +1,35 @@
+package com.supplyboost.messaging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.kafka.clients.producer.ProducerInterceptor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+/**
+ * Stamps every outgoing record with an {@link EventHeaders#EVENT_ID} header so consumers can
+ * recognise redeliveries. Register through {@code ProducerConfig.INTERCEPTOR_CLASSES_CONFIG}.
+ */
+public class EventIdProducerInterceptor implements ProducerInterceptor<Object, Object> {
+
+  @Override
+  public ProducerRecord<Object, Object> onSend(ProducerRecord<Object, Object> record) {
+    if (record.headers().lastHeader(EventHeaders.EVENT_ID) == null) {
+      record
+          .headers()
+          .add(
+              EventHeaders.EVENT_ID, UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
+    }
+    return record;
+  }
+
+  @Override
+  public void onAcknowledgement(RecordMetadata metadata, Exception exception) {}
+
+  @Override
+  public void close() {}
+
+  @Override
+  public void configure(Map<String, ?> configs) {}
+}
@@ -0,0 +1,22 @@
+package com.supplyboost.messaging.concurrency;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@ConditionalOnProperty(
+    prefix = "messaging.consumer.key-ordered",
+    name = "enabled",
+    havingValue = "true")
+@EnableConfigurationProperties(KeyOrderedProperties.class)
+public class KeyOrderedAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public KeyOrderedExecutor keyOrderedExecutor(KeyOrderedProperties properties) {
+    return new KeyOrderedExecutor(properties.getWorkers(), "key-ordered-");
+  }
+}
@@ -0,0 +1,140 @@
+package com.supplyboost.messaging.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+/**
+ * Processes a polled batch on a fixed pool of single-threaded lanes. Items are routed to a lane by
+ * key hash, so items sharing a key run strictly in batch order while different keys run in
+ * parallel. The call returns once the whole batch is done, leaving offset commits to the container
+ * as usual.
+ */
+@Slf4j
+public class KeyOrderedExecutor implements DisposableBean {
+
+  private final ExecutorService[] lanes;
+
+  public KeyOrderedExecutor(int workers, String threadNamePrefix) {
+    if (workers < 1) {
+      throw new IllegalArgumentException("workers must be at least 1");
+    }
+    this.lanes = new ExecutorService[workers];
+    for (int i = 0; i < workers; i++) {
+      String threadName = threadNamePrefix + i;
+      lanes[i] =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+  }
+
+  /**
+   * Runs {@code handler} for every item. When an item fails, later items in the same lane are not
+   * attempted and a {@link BatchListenerFailedException} is thrown for the lowest failed index, so
+   * the error handler commits everything before it and redelivers the rest. Other lanes may already
+   * have handled items past that index, and these run again on redelivery. Handlers must therefore
+   * be idempotent, or use the overload that records them.
+   */
+  public <T> void processInOrder(
+      List<T> items, Function<? super T, ?> keyExtractor, Consumer<? super T> handler) {
+    processInOrder(items, keyExtractor, handler, item -> {});
+  }
+
+  /**
+   * Like {@link #processInOrder(List, Function, Consumer)}. Before the exception is thrown, {@code
+   * onRedelivered} is called for each item past the failed index that was handled successfully.
+   * Typically it marks the record processed in the idempotency store, so the redelivery skips it.
+   */
+  public <T> void processInOrder(
+      List<T> items,
+      Function<? super T, ?> keyExtractor,
+      Consumer<? super T> handler,
+      Consumer<? super T> onRedelivered) {
+    List<List<Integer>> assignments = new ArrayList<>(lanes.length);
+    for (int i = 0; i < lanes.length; i++) {
+      assignments.add(new ArrayList<>());
+    }
+    for (int index = 0; index < items.size(); index++) {
+      Object key = keyExtractor.apply(items.get(index));
+      int lane = key == null ? 0 : Math.floorMod(key.hashCode(), lanes.length);
+      assignments.get(lane).add(index);
+    }
+
+    // Each slot is written by one lane only and read after the join below
+    boolean[] succeeded = new boolean[items.size()];
+    AtomicInteger failedIndex = new AtomicInteger(Integer.MAX_VALUE);
+    AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    List<CompletableFuture<Void>> pending = new ArrayList<>(lanes.length);
+    for (int lane = 0; lane < lanes.length; lane++) {
+      List<Integer> indexes = assignments.get(lane);
+      if (indexes.isEmpty()) {
+        continue;
+      }
+      pending.add(
+          CompletableFuture.runAsync(
+              () -> {
+                for (int index : indexes) {
+                  try {
+                    handler.accept(items.get(index));
+                    succeeded[index] = true;
+                  } catch (RuntimeException e) {
+                    log.warn("Processing failed at batch index {}", index, e);
+                    recordFailure(failedIndex, failure, index, e);
+                    return;
+                  }
+                }
+              },
+              lanes[lane]));
+    }
+    CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+
+    if (failure.get() != null) {
+      for (int index = failedIndex.get() + 1; index < items.size(); index++) {
+        if (succeeded[index]) {
+          try {
+            onRedelivered.accept(items.get(index));
+          } catch (RuntimeException e) {
+            log.warn("Could not record handled batch index {}; it will run again", index, e);
+          }
+        }
+      }
+      throw new BatchListenerFailedException(
+          "Key-ordered processing failed", failure.get(), failedIndex.get());
+    }
+  }
+
+  public int getWorkers() {
+    return lanes.length;
+  }
+
+  @Override
+  public void destroy() {
+    for (ExecutorService lane : lanes) {
+      lane.shutdown();
+    }
+  }
+
+  private static synchronized void recordFailure(
+      AtomicInteger failedIndex,
+      AtomicReference<RuntimeException> failure,
+      int index,
+      RuntimeException e) {
+    if (index < failedIndex.get()) {
+      failedIndex.set(index);
+      failure.set(e);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.supplyboost.messaging.concurrency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "messaging.consumer.key-ordered")
+public class KeyOrderedProperties {
+
+  private boolean enabled = false;
+
+  /** Parallel lanes shared by all listener threads of the service. */
+  private int workers = 8;
+}
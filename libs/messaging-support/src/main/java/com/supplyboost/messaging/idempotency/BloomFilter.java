@@ -0,0 +1,97 @@
+package com.supplyboost.messaging.idempotency;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over string keys. A negative answer is definitive; a positive answer may
+ * be a false positive at roughly the configured probability.
+ */
+public class BloomFilter {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashFunctions;
+
+  public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+    if (expectedInsertions <= 0) {
+      throw new IllegalArgumentException("expectedInsertions must be positive");
+    }
+    if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+      throw new IllegalArgumentException("falsePositiveProbability must be in (0, 1)");
+    }
+    long optimalBits =
+        (long)
+            Math.ceil(
+                -expectedInsertions
+                    * Math.log(falsePositiveProbability)
+                    / (Math.log(2) * Math.log(2)));
+    int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) >>> 6);
+    this.words = new AtomicLongArray(wordCount);
+    this.bitCount = (long) wordCount << 6;
+    this.hashFunctions =
+        Math.max(1, (int) Math.round((double) optimalBits / expectedInsertions * Math.log(2)));
+  }
+
+  public void put(String key) {
+    long hash1 = hash(key);
+    long hash2 = mix(hash1);
+    for (int i = 0; i < hashFunctions; i++) {
+      long bit = index(hash1 + i * hash2);
+      int word = (int) (bit >>> 6);
+      long mask = 1L << bit;
+      long current;
+      do {
+        current = words.get(word);
+        if ((current & mask) != 0) {
+          break;
+        }
+      } while (!words.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  public boolean mightContain(String key) {
+    long hash1 = hash(key);
+    long hash2 = mix(hash1);
+    for (int i = 0; i < hashFunctions; i++) {
+      long bit = index(hash1 + i * hash2);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  long bitCount() {
+    return bitCount;
+  }
+
+  int hashFunctions() {
+    return hashFunctions;
+  }
+
+  private long index(long combinedHash) {
+    return (combinedHash & Long.MAX_VALUE) % bitCount;
+  }
+
+  private static long hash(String key) {
+    long hash = FNV_OFFSET_BASIS;
+    for (int i = 0; i < key.length(); i++) {
+      hash ^= key.charAt(i);
+      hash *= FNV_PRIME;
+    }
+    return mix(hash);
+  }
+
+  /** MurmurHash3 64-bit finaliser, used to spread bits and derive the second hash. */
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value;
+  }
+}
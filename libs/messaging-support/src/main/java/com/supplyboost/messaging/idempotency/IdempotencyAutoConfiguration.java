@@ -0,0 +1,71 @@
+package com.supplyboost.messaging.idempotency;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.config.ContainerCustomizer;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@AutoConfiguration(after = JdbcTemplateAutoConfiguration.class)
+@ConditionalOnBean(JdbcTemplate.class)
+@ConditionalOnProperty(prefix = "messaging.idempotency", name = "enabled", havingValue = "true")
+@EnableScheduling
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public ProcessedMessageRepository processedMessageRepository(
+      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    return new ProcessedMessageRepository(jdbcTemplate, transactionManager);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public IdempotencyStore idempotencyStore(
+      ProcessedMessageRepository repository, IdempotencyProperties properties) {
+    return new IdempotencyStore(repository, properties);
+  }
+
+  /** Picked up, like the batch variant, by Boot's auto-configured listener container factory. */
+  @Bean
+  @ConditionalOnMissingBean
+  public IdempotentRecordInterceptor<Object, Object> idempotentRecordInterceptor(
+      IdempotencyStore store) {
+    return new IdempotentRecordInterceptor<>(store);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public IdempotentBatchInterceptor<Object, Object> idempotentBatchInterceptor(
+      IdempotencyStore store) {
+    return new IdempotentBatchInterceptor<>(store);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public IdempotentRebalanceListener idempotentRebalanceListener(IdempotencyStore store) {
+    return new IdempotentRebalanceListener(store);
+  }
+
+  /** Boot's container factory applies this; services with their own factory set the listener. */
+  @Bean
+  @ConditionalOnMissingBean
+  public ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>>
+      idempotentContainerCustomizer(IdempotentRebalanceListener rebalanceListener) {
+    return container ->
+        container.getContainerProperties().setConsumerRebalanceListener(rebalanceListener);
+  }
+
+  @Bean
+  public ProcessedMessageCleanup processedMessageCleanup(IdempotencyStore store) {
+    return new ProcessedMessageCleanup(store);
+  }
+}
@@ -0,0 +1,25 @@
+package com.supplyboost.messaging.idempotency;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "messaging.idempotency")
+public class IdempotencyProperties {
+
+  /** Consumers opt in explicitly; the service must own a processed_messages table. */
+  private boolean enabled = false;
+
+  private long expectedInsertions = 1_000_000;
+  private double falsePositiveProbability = 0.01;
+
+  /** Exact event IDs kept in memory so a redelivery burst never reaches the database. */
+  private int recentCacheSize = 10_000;
+
+  private Duration retention = Duration.ofDays(7);
+  private Duration cleanupInterval = Duration.ofHours(1);
+
+  /** How far before the last load a catch-up re-reads, covering clocks of other instances. */
+  private Duration clockSkew = Duration.ofMinutes(1);
+}
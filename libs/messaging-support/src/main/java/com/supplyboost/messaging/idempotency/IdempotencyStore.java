@@ -0,0 +1,178 @@
+package com.supplyboost.messaging.idempotency;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Dedupe store for consumed events. Lookups go through an exact LRU of recent IDs and a Bloom
+ * filter before touching the {@code processed_messages} table, so new events skip the database read
+ * entirely and redelivery bursts resolve in memory.
+ *
+ * <p>The filter only knows what this instance loaded or recorded. When partitions are assigned,
+ * {@link #catchUp} adds the IDs other instances recorded since the last load. Records the previous
+ * owner handled before a rebalance are then recognised on redelivery.
+ */
+@Slf4j
+public class IdempotencyStore implements SmartLifecycle {
+
+  /** Warm the filter before the Kafka listener containers start consuming. */
+  private static final int PHASE = Integer.MAX_VALUE - 200;
+
+  private final ProcessedMessageRepository repository;
+  private final IdempotencyProperties properties;
+  private final Clock clock;
+  private final Set<String> recent;
+
+  private volatile BloomFilter filter;
+  private volatile BloomFilter rebuilding;
+  private volatile Instant loadedUntil;
+  private volatile boolean running;
+
+  public IdempotencyStore(ProcessedMessageRepository repository, IdempotencyProperties properties) {
+    this(repository, properties, Clock.systemUTC());
+  }
+
+  IdempotencyStore(
+      ProcessedMessageRepository repository, IdempotencyProperties properties, Clock clock) {
+    this.repository = repository;
+    this.properties = properties;
+    this.clock = clock;
+    this.recent = lruSet(properties.getRecentCacheSize());
+    this.filter = newFilter();
+  }
+
+  public boolean isDuplicate(String consumerGroup, String eventId) {
+    String key = key(consumerGroup, eventId);
+    if (recent.contains(key)) {
+      return true;
+    }
+    if (!filter.mightContain(key)) {
+      return false;
+    }
+    boolean duplicate = repository.exists(consumerGroup, eventId);
+    if (duplicate) {
+      recent.add(key);
+    }
+    return duplicate;
+  }
+
+  /** Records a successfully handled event. Call only once the handler's work is committed. */
+  public void markProcessed(String consumerGroup, String eventId) {
+    String key = key(consumerGroup, eventId);
+    repository.insert(consumerGroup, eventId, clock.instant());
+    remember(key);
+  }
+
+  public void markProcessed(String consumerGroup, Collection<String> eventIds) {
+    if (eventIds.isEmpty()) {
+      return;
+    }
+    repository.insertAll(consumerGroup, eventIds, clock.instant());
+    eventIds.forEach(eventId -> remember(key(consumerGroup, eventId)));
+  }
+
+  /**
+   * Adds IDs recorded since the last load, re-reading {@code clock-skew} before it to cover clock
+   * differences between instances. Called on partition assignment, so it is incremental and cheap.
+   */
+  public synchronized void catchUp() {
+    if (loadedUntil == null) {
+      return;
+    }
+    Instant started = clock.instant();
+    long[] loaded = {0};
+    repository.forEachProcessedSince(
+        loadedUntil.minus(properties.getClockSkew()),
+        (group, eventId) -> {
+          filter.put(key(group, eventId));
+          loaded[0]++;
+        });
+    loadedUntil = started;
+    log.debug("Caught up on {} processed message IDs", loaded[0]);
+  }
+
+  /** Deletes entries past retention and rebuilds the filter so it does not saturate. */
+  public void purgeExpired() {
+    Instant cutoff = clock.instant().minus(properties.getRetention());
+    int deleted = repository.deleteProcessedBefore(cutoff);
+    rebuildFilter(cutoff);
+    log.info("Purged {} processed message entries older than {}", deleted, cutoff);
+  }
+
+  @Override
+  public void start() {
+    rebuildFilter(clock.instant().minus(properties.getRetention()));
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+
+  private synchronized void rebuildFilter(Instant since) {
+    BloomFilter next = newFilter();
+    rebuilding = next;
+    Instant started = clock.instant();
+    long[] loaded = {0};
+    try {
+      repository.forEachProcessedSince(
+          since,
+          (group, eventId) -> {
+            next.put(key(group, eventId));
+            loaded[0]++;
+          });
+      filter = next;
+      loadedUntil = started;
+      log.debug("Loaded {} processed message IDs into the dedupe filter", loaded[0]);
+    } finally {
+      rebuilding = null;
+    }
+  }
+
+  private void remember(String key) {
+    filter.put(key);
+    BloomFilter next = rebuilding;
+    if (next != null) {
+      next.put(key);
+    }
+    recent.add(key);
+  }
+
+  private BloomFilter newFilter() {
+    return new BloomFilter(
+        properties.getExpectedInsertions(), properties.getFalsePositiveProbability());
+  }
+
+  private static String key(String consumerGroup, String eventId) {
+    return consumerGroup + ':' + eventId;
+  }
+
+  private static Set<String> lruSet(int maxSize) {
+    return Collections.synchronizedSet(
+        Collections.newSetFromMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxSize;
+              }
+            }));
+  }
+}
@@ -0,0 +1,60 @@
+package com.supplyboost.messaging.idempotency;
+
+import com.supplyboost.messaging.EventHeaders;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+
+/**
+ * Batch-listener counterpart of {@link IdempotentRecordInterceptor}: removes already handled
+ * records from each poll and records the whole batch with one JDBC batch insert.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotentBatchInterceptor<K, V> implements BatchInterceptor<K, V> {
+
+  private final IdempotencyStore store;
+
+  @Override
+  public ConsumerRecords<K, V> intercept(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+    String groupId = consumer.groupMetadata().groupId();
+    Map<TopicPartition, List<ConsumerRecord<K, V>>> fresh = new HashMap<>();
+    int skipped = 0;
+    for (ConsumerRecord<K, V> record : records) {
+      String eventId = EventHeaders.eventId(record.headers());
+      if (eventId != null && store.isDuplicate(groupId, eventId)) {
+        skipped++;
+        continue;
+      }
+      fresh
+          .computeIfAbsent(
+              new TopicPartition(record.topic(), record.partition()), tp -> new ArrayList<>())
+          .add(record);
+    }
+    if (skipped == 0) {
+      return records;
+    }
+    log.info("Skipping {} duplicate events out of {}", skipped, records.count());
+    return fresh.isEmpty() ? null : new ConsumerRecords<>(fresh);
+  }
+
+  @Override
+  public void success(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+    List<String> eventIds = new ArrayList<>(records.count());
+    for (ConsumerRecord<K, V> record : records) {
+      String eventId = EventHeaders.eventId(record.headers());
+      if (eventId != null) {
+        eventIds.add(eventId);
+      }
+    }
+    store.markProcessed(consumer.groupMetadata().groupId(), eventIds);
+  }
+}
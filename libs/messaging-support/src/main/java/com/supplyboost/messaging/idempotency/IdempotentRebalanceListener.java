@@ -0,0 +1,24 @@
+package com.supplyboost.messaging.idempotency;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+
+/**
+ * Brings the dedupe filter up to date before newly assigned partitions are polled, so records their
+ * previous owner already handled are recognised when redelivered here.
+ */
+@RequiredArgsConstructor
+public class IdempotentRebalanceListener implements ConsumerAwareRebalanceListener {
+
+  private final IdempotencyStore store;
+
+  @Override
+  public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+    if (!partitions.isEmpty()) {
+      store.catchUp();
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.supplyboost.messaging.idempotency;
+
+import com.supplyboost.messaging.EventHeaders;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.RecordInterceptor;
+
+/**
+ * Drops records whose {@link EventHeaders#EVENT_ID} the consumer group has already handled and
+ * records the ID once the listener returns. Listener transactions commit before {@code success}
+ * runs, so a crash in between can still cause one redelivery; records without the header are always
+ * passed through.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotentRecordInterceptor<K, V> implements RecordInterceptor<K, V> {
+
+  private final IdempotencyStore store;
+
+  @Override
+  public ConsumerRecord<K, V> intercept(ConsumerRecord<K, V> record, Consumer<K, V> consumer) {
+    String eventId = EventHeaders.eventId(record.headers());
+    if (eventId != null && store.isDuplicate(groupId(consumer), eventId)) {
+      log.info(
+          "Skipping duplicate event {} on {}-{}@{}",
+          eventId,
+          record.topic(),
+          record.partition(),
+          record.offset());
+      return null;
+    }
+    return record;
+  }
+
+  @Override
+  public void success(ConsumerRecord<K, V> record, Consumer<K, V> consumer) {
+    String eventId = EventHeaders.eventId(record.headers());
+    if (eventId != null) {
+      store.markProcessed(groupId(consumer), eventId);
+    }
+  }
+
+  private static String groupId(Consumer<?, ?> consumer) {
+    return consumer.groupMetadata().groupId();
+  }
+}
@@ -0,0 +1,17 @@
+package com.supplyboost.messaging.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@RequiredArgsConstructor
+public class ProcessedMessageCleanup {
+
+  private final IdempotencyStore store;
+
+  @Scheduled(
+      fixedDelayString = "${messaging.idempotency.cleanup-interval:PT1H}",
+      initialDelayString = "${messaging.idempotency.cleanup-interval:PT1H}")
+  public void purgeExpired() {
+    store.purgeExpired();
+  }
+}
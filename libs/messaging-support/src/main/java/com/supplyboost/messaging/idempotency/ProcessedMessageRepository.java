@@ -0,0 +1,88 @@
+package com.supplyboost.messaging.idempotency;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** JDBC access to the {@code processed_messages} table each consuming service owns. */
+public class ProcessedMessageRepository {
+
+  private static final int FETCH_SIZE = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate readOnlyTransaction;
+
+  public ProcessedMessageRepository(
+      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+  }
+
+  public boolean exists(String consumerGroup, String eventId) {
+    Boolean exists =
+        jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM processed_messages"
+                + " WHERE consumer_group = ? AND event_id = ?)",
+            Boolean.class,
+            consumerGroup,
+            eventId);
+    return Boolean.TRUE.equals(exists);
+  }
+
+  /** Returns {@code false} if the event was already recorded for the group. */
+  public boolean insert(String consumerGroup, String eventId, Instant processedAt) {
+    return jdbcTemplate.update(
+            "INSERT INTO processed_messages (consumer_group, event_id, processed_at)"
+                + " VALUES (?, ?, ?) ON CONFLICT DO NOTHING",
+            consumerGroup,
+            eventId,
+            Timestamp.from(processedAt))
+        > 0;
+  }
+
+  public void insertAll(String consumerGroup, Collection<String> eventIds, Instant processedAt) {
+    Timestamp timestamp = Timestamp.from(processedAt);
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO processed_messages (consumer_group, event_id, processed_at)"
+            + " VALUES (?, ?, ?) ON CONFLICT DO NOTHING",
+        eventIds,
+        eventIds.size(),
+        (statement, eventId) -> {
+          statement.setString(1, consumerGroup);
+          statement.setString(2, eventId);
+          statement.setTimestamp(3, timestamp);
+        });
+  }
+
+  public int deleteProcessedBefore(Instant cutoff) {
+    return jdbcTemplate.update(
+        "DELETE FROM processed_messages WHERE processed_at < ?", Timestamp.from(cutoff));
+  }
+
+  /**
+   * Streams the IDs in pages of {@link #FETCH_SIZE}. The PostgreSQL driver only honours the fetch
+   * size with autocommit off, hence the transaction.
+   */
+  public void forEachProcessedSince(Instant since, BiConsumer<String, String> action) {
+    readOnlyTransaction.executeWithoutResult(
+        status ->
+            jdbcTemplate.query(
+                connection -> {
+                  var statement =
+                      connection.prepareStatement(
+                          "SELECT consumer_group, event_id FROM processed_messages"
+                              + " WHERE processed_at >= ?");
+                  statement.setFetchSize(FETCH_SIZE);
+                  statement.setTimestamp(1, Timestamp.from(since));
+                  return statement;
+                },
+                rs -> {
+                  action.accept(rs.getString(1), rs.getString(2));
+                }));
+  }
+}
@@ -0,0 +1,86 @@
+package com.supplyboost.messaging.producer;
+
+import com.supplyboost.messaging.EventHeaders;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaProducerException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+/**
+ * Publishes events without blocking the caller. Every send is timed per topic, and records the
+ * producer could not deliver are passed to the {@link SendFailureHandler} instead of being dropped.
+ * Synchronous send errors are reported the same way, so callers never see an exception.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EventSender {
+
+  private final KafkaTemplate<String, Object> kafkaTemplate;
+  private final SendMetrics metrics;
+  private final SendFailureHandler failureHandler;
+
+  public CompletableFuture<SendResult<String, Object>> send(
+      String topic, String key, Object event) {
+    return send(new ProducerRecord<>(topic, key, event));
+  }
+
+  /** Sends with a caller-chosen event ID, see {@link EventHeaders#eventIdOf}. */
+  public CompletableFuture<SendResult<String, Object>> send(
+      String topic, String key, Object event, String eventId) {
+    ProducerRecord<String, Object> record = new ProducerRecord<>(topic, key, event);
+    record.headers().add(EventHeaders.EVENT_ID, eventId.getBytes(StandardCharsets.UTF_8));
+    return send(record);
+  }
+
+  public CompletableFuture<SendResult<String, Object>> send(ProducerRecord<String, Object> record) {
+    // Assigned here rather than by the interceptor so a failed record keeps its ID in the outbox
+    if (record.headers().lastHeader(EventHeaders.EVENT_ID) == null) {
+      record
+          .headers()
+          .add(
+              EventHeaders.EVENT_ID, UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    long start = System.nanoTime();
+    CompletableFuture<SendResult<String, Object>> future;
+    try {
+      future = kafkaTemplate.send(record);
+    } catch (RuntimeException e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+
+    return future.whenComplete(
+        (result, failure) -> {
+          if (failure == null) {
+            metrics.recordSend(record.topic(), start, null);
+            return;
+          }
+          Throwable cause = unwrap(failure);
+          metrics.recordSend(record.topic(), start, cause);
+          try {
+            failureHandler.onFailure(record, cause);
+          } catch (RuntimeException e) {
+            log.error(
+                "Failure handler rejected record for topic: {} with key: {}",
+                record.topic(),
+                record.key(),
+                e);
+          }
+        });
+  }
+
+  private static Throwable unwrap(Throwable failure) {
+    Throwable cause = failure;
+    while ((cause instanceof CompletionException || cause instanceof KafkaProducerException)
+        && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+}
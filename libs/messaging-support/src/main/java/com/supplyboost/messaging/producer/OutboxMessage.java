@@ -0,0 +1,21 @@
+package com.supplyboost.messaging.producer;
+
+import lombok.Builder;
+import lombok.Value;
+
+/** A record the producer failed to deliver, as stored in {@code outbox_messages}. */
+@Value
+@Builder
+public class OutboxMessage {
+
+  Long id;
+  String topic;
+  String messageKey;
+  String eventId;
+
+  /** Class of the event; {@link #payload} is its JSON form. */
+  String payloadType;
+
+  String payload;
+  int attempts;
+}
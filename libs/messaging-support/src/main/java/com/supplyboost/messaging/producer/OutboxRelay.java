@@ -0,0 +1,234 @@
+package com.supplyboost.messaging.producer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.supplyboost.messaging.EventHeaders;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.ApiException;
+import org.apache.kafka.common.errors.RetriableException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.KafkaProducerException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Stores records the producer failed to deliver and re-sends them with exponential back-off.
+ * Re-sent records keep their original event ID, so consumers drop any copy that did reach the
+ * broker despite the reported failure.
+ *
+ * <p>Failures are written by a single writer thread in their own transaction, so neither the
+ * producer I/O thread nor the caller's transaction is involved. When the writer falls behind, the
+ * reporting thread writes the row itself. Records that cannot succeed on a re-send, and records
+ * that still fail after {@code max-attempts}, are kept as dead rows for manual inspection.
+ */
+@Slf4j
+public class OutboxRelay implements SendFailureHandler, DisposableBean {
+
+  private final OutboxRepository repository;
+  private final KafkaTemplate<String, Object> kafkaTemplate;
+  private final SendMetrics metrics;
+  private final ProducerProperties.Outbox properties;
+  private final Duration sendTimeout;
+  private final TransactionTemplate transactionTemplate;
+  private final ThreadPoolExecutor writer;
+  private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+  public OutboxRelay(
+      OutboxRepository repository,
+      KafkaTemplate<String, Object> kafkaTemplate,
+      SendMetrics metrics,
+      ProducerProperties properties,
+      PlatformTransactionManager transactionManager) {
+    this.repository = repository;
+    this.kafkaTemplate = kafkaTemplate;
+    this.metrics = metrics;
+    this.properties = properties.getOutbox();
+    this.sendTimeout = properties.getDeliveryTimeout().plusSeconds(30);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.writer =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(this.properties.getWriterQueueCapacity()),
+            new CustomizableThreadFactory("outbox-writer-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  @Override
+  public void onFailure(ProducerRecord<String, Object> record, Throwable cause) {
+    writer.execute(() -> store(record, cause));
+  }
+
+  @Override
+  public void destroy() throws InterruptedException {
+    writer.shutdown();
+    if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+      log.error(
+          "Outbox writer did not drain in time, {} failed sends not stored",
+          writer.shutdownNow().size());
+    }
+  }
+
+  private void store(ProducerRecord<String, Object> record, Throwable cause) {
+    Object value = record.value();
+    boolean retriable = isRetriable(cause);
+    try {
+      OutboxMessage message =
+          OutboxMessage.builder()
+              .topic(record.topic())
+              .messageKey(record.key())
+              .eventId(EventHeaders.eventId(record.headers()))
+              .payloadType(value.getClass().getName())
+              .payload(objectMapper.writeValueAsString(value))
+              .build();
+      Instant now = Instant.now();
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            if (retriable) {
+              repository.insert(message, cause.toString(), now);
+            } else {
+              repository.insertDead(message, cause.toString(), now);
+            }
+          });
+      if (retriable) {
+        metrics.recordOutboxed(record.topic());
+        log.warn(
+            "Send to topic: {} with key: {} failed, stored for re-delivery: {}",
+            record.topic(),
+            record.key(),
+            cause.toString());
+      } else {
+        metrics.recordDead(record.topic());
+        log.error(
+            "Send to topic: {} with key: {} failed permanently, stored as dead: {}",
+            record.topic(),
+            record.key(),
+            cause.toString());
+      }
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.error(
+          "Send to topic: {} with key: {} failed and could not be stored, event lost: {}",
+          record.topic(),
+          record.key(),
+          value,
+          e);
+    }
+  }
+
+  @Scheduled(
+      fixedDelayString = "${messaging.producer.outbox.poll-interval:PT5S}",
+      initialDelayString = "${messaging.producer.outbox.poll-interval:PT5S}")
+  public void relay() {
+    Instant now = Instant.now();
+    List<OutboxMessage> due =
+        repository.claimDue(properties.getBatchSize(), now, now.plus(sendTimeout));
+    if (due.isEmpty()) {
+      return;
+    }
+
+    List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>(due.size());
+    for (OutboxMessage message : due) {
+      sends.add(send(message));
+    }
+
+    int relayed = 0;
+    for (int i = 0; i < due.size(); i++) {
+      OutboxMessage message = due.get(i);
+      try {
+        sends.get(i).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        repository.delete(message.getId());
+        metrics.recordRelayed(message.getTopic(), true);
+        relayed++;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        Throwable cause = unwrap(e);
+        int attempts = message.getAttempts() + 1;
+        metrics.recordRelayed(message.getTopic(), false);
+        if (!isRetriable(cause) || attempts >= properties.getMaxAttempts()) {
+          repository.markDead(message.getId(), attempts, cause.toString(), Instant.now());
+          metrics.recordDead(message.getTopic());
+          log.error(
+              "Re-delivery {} of outbox message {} to topic: {} failed, giving up: {}",
+              attempts,
+              message.getId(),
+              message.getTopic(),
+              cause.toString());
+          continue;
+        }
+        repository.reschedule(
+            message.getId(), attempts, Instant.now().plus(backoff(attempts)), cause.toString());
+        log.warn(
+            "Re-delivery {} of outbox message {} to topic: {} failed: {}",
+            attempts,
+            message.getId(),
+            message.getTopic(),
+            cause.toString());
+      }
+    }
+    log.info("Re-delivered {} of {} outbox messages", relayed, due.size());
+  }
+
+  private CompletableFuture<SendResult<String, Object>> send(OutboxMessage message) {
+    try {
+      Object value =
+          objectMapper.readValue(message.getPayload(), Class.forName(message.getPayloadType()));
+      ProducerRecord<String, Object> record =
+          new ProducerRecord<>(message.getTopic(), message.getMessageKey(), value);
+      if (message.getEventId() != null) {
+        record
+            .headers()
+            .add(EventHeaders.EVENT_ID, message.getEventId().getBytes(StandardCharsets.UTF_8));
+      }
+      return kafkaTemplate.send(record);
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Whether a re-send can succeed. Serialization errors and Kafka errors such as {@code
+   * RecordTooLargeException} fail the same way every time.
+   */
+  static boolean isRetriable(Throwable cause) {
+    if (cause instanceof SerializationException) {
+      return false;
+    }
+    return !(cause instanceof ApiException) || cause instanceof RetriableException;
+  }
+
+  private static Throwable unwrap(Exception e) {
+    Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+    while (cause instanceof KafkaProducerException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+  Duration backoff(int attempts) {
+    Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 30));
+    return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+  }
+}
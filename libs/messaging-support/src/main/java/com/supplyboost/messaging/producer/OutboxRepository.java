@@ -0,0 +1,107 @@
+package com.supplyboost.messaging.producer;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** JDBC access to the {@code outbox_messages} table each publishing service owns. */
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void insert(OutboxMessage message, String error, Instant now) {
+    insert(message, error, now, null);
+  }
+
+  /** Stores a message that must not be re-sent; it stays for manual inspection. */
+  public void insertDead(OutboxMessage message, String error, Instant now) {
+    insert(message, error, now, now);
+  }
+
+  private void insert(OutboxMessage message, String error, Instant now, Instant deadAt) {
+    jdbcTemplate.update(
+        "INSERT INTO outbox_messages (topic, message_key, event_id, payload_type, payload,"
+            + " attempts, next_attempt_at, last_error, created_at, dead_at)"
+            + " VALUES (?, ?, ?, ?, ?, 0, ?, ?, ?, ?)",
+        message.getTopic(),
+        message.getMessageKey(),
+        message.getEventId(),
+        message.getPayloadType(),
+        message.getPayload(),
+        Timestamp.from(now),
+        truncate(error),
+        Timestamp.from(now),
+        deadAt != null ? Timestamp.from(deadAt) : null);
+  }
+
+  /**
+   * Leases up to {@code limit} due, live messages by pushing their next attempt to {@code
+   * leaseUntil}. {@code SKIP LOCKED} lets several instances relay concurrently without handing out
+   * a message twice.
+   */
+  public List<OutboxMessage> claimDue(int limit, Instant now, Instant leaseUntil) {
+    List<OutboxMessage> messages =
+        jdbcTemplate.query(
+            "UPDATE outbox_messages SET next_attempt_at = ? WHERE id IN ("
+                + " SELECT id FROM outbox_messages WHERE next_attempt_at <= ? AND dead_at IS NULL"
+                + " ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED)"
+                + " RETURNING id, topic, message_key, event_id, payload_type, payload, attempts",
+            OutboxRepository::mapRow,
+            Timestamp.from(leaseUntil),
+            Timestamp.from(now),
+            limit);
+    messages.sort(Comparator.comparing(OutboxMessage::getId));
+    return messages;
+  }
+
+  public void delete(long id) {
+    jdbcTemplate.update("DELETE FROM outbox_messages WHERE id = ?", id);
+  }
+
+  public void reschedule(long id, int attempts, Instant nextAttemptAt, String error) {
+    jdbcTemplate.update(
+        "UPDATE outbox_messages SET attempts = ?, next_attempt_at = ?, last_error = ?"
+            + " WHERE id = ?",
+        attempts,
+        Timestamp.from(nextAttemptAt),
+        truncate(error),
+        id);
+  }
+
+  /** Stops re-delivery of a message; the row is kept until someone deletes or revives it. */
+  public void markDead(long id, int attempts, String error, Instant now) {
+    jdbcTemplate.update(
+        "UPDATE outbox_messages SET attempts = ?, last_error = ?, dead_at = ? WHERE id = ?",
+        attempts,
+        truncate(error),
+        Timestamp.from(now),
+        id);
+  }
+
+  private static OutboxMessage mapRow(ResultSet rs, int rowNum) throws SQLException {
+    return OutboxMessage.builder()
+        .id(rs.getLong("id"))
+        .topic(rs.getString("topic"))
+        .messageKey(rs.getString("message_key"))
+        .eventId(rs.getString("event_id"))
+        .payloadType(rs.getString("payload_type"))
+        .payload(rs.getString("payload"))
+        .attempts(rs.getInt("attempts"))
+        .build();
+  }
+
+  private static String truncate(String error) {
+    if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+      return error;
+    }
+    return error.substring(0, MAX_ERROR_LENGTH);
+  }
+}
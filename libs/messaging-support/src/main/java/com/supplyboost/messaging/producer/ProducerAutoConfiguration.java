@@ -0,0 +1,92 @@
+package com.supplyboost.messaging.producer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Slf4j
+@AutoConfiguration(
+    after = {
+      KafkaAutoConfiguration.class,
+      JdbcTemplateAutoConfiguration.class,
+      TransactionAutoConfiguration.class
+    })
+@ConditionalOnClass(KafkaTemplate.class)
+@EnableConfigurationProperties(ProducerProperties.class)
+public class ProducerAutoConfiguration {
+
+  @Bean
+  public ProducerTuningCustomizer producerTuningCustomizer(ProducerProperties properties) {
+    return new ProducerTuningCustomizer(properties);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public SendMetrics sendMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+    return new SendMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  /** Without an outbox, undeliverable records are only logged and counted. */
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnBean(KafkaTemplate.class)
+  public EventSender eventSender(
+      KafkaTemplate<String, Object> kafkaTemplate,
+      SendMetrics metrics,
+      ObjectProvider<SendFailureHandler> failureHandler) {
+    return new EventSender(
+        kafkaTemplate,
+        metrics,
+        failureHandler.getIfAvailable(
+            () ->
+                (record, cause) ->
+                    log.error(
+                        "Send to topic: {} with key: {} failed, event lost",
+                        record.topic(),
+                        record.key(),
+                        cause)));
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnBean({JdbcTemplate.class, KafkaTemplate.class, PlatformTransactionManager.class})
+  @ConditionalOnProperty(
+      prefix = "messaging.producer.outbox",
+      name = "enabled",
+      havingValue = "true")
+  @EnableScheduling
+  static class OutboxConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxRepository outboxRepository(JdbcTemplate jdbcTemplate) {
+      return new OutboxRepository(jdbcTemplate);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxRelay outboxRelay(
+        OutboxRepository repository,
+        KafkaTemplate<String, Object> kafkaTemplate,
+        SendMetrics metrics,
+        ProducerProperties properties,
+        PlatformTransactionManager transactionManager) {
+      return new OutboxRelay(repository, kafkaTemplate, metrics, properties, transactionManager);
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.supplyboost.messaging.producer;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** Batching and compression presets for the shared producer configuration. */
+@Getter
+@RequiredArgsConstructor
+public enum ProducerProfile {
+
+  /** Waits up to 20 ms to fill 128 KiB batches and compresses them with zstd. */
+  THROUGHPUT(Duration.ofMillis(20), 131_072, "zstd"),
+
+  /** Sends almost immediately; lz4 keeps the compression cost low. */
+  LATENCY(Duration.ofMillis(1), 16_384, "lz4");
+
+  private final Duration linger;
+  private final int batchSize;
+  private final String compressionType;
+}
@@ -0,0 +1,66 @@
+package com.supplyboost.messaging.producer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "messaging.producer")
+public class ProducerProperties {
+
+  private ProducerProfile profile = ProducerProfile.THROUGHPUT;
+
+  /** Override the profile's value when set. */
+  private Duration linger;
+
+  private Integer batchSize;
+  private String compressionType;
+
+  /** Broker-side deduplication of producer retries; requires {@code acks=all}. */
+  private boolean idempotence = true;
+
+  /** Upper bound on producer retries before a send is reported as failed. */
+  private Duration deliveryTimeout = Duration.ofMinutes(2);
+
+  private final Outbox outbox = new Outbox();
+
+  @Data
+  public static class Outbox {
+
+    /** Failed sends are kept in the service's outbox_messages table and re-sent. */
+    private boolean enabled = false;
+
+    private Duration pollInterval = Duration.ofSeconds(5);
+    private int batchSize = 100;
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    /** Re-deliveries before a message is marked dead and left alone. */
+    private int maxAttempts = 20;
+
+    /** Failed sends waiting to be written; beyond that the reporting thread writes them. */
+    private int writerQueueCapacity = 10_000;
+  }
+
+  Map<String, Object> producerConfigs() {
+    Map<String, Object> configs = new HashMap<>();
+    configs.put(
+        ProducerConfig.LINGER_MS_CONFIG,
+        (int) (linger != null ? linger : profile.getLinger()).toMillis());
+    configs.put(
+        ProducerConfig.BATCH_SIZE_CONFIG, batchSize != null ? batchSize : profile.getBatchSize());
+    configs.put(
+        ProducerConfig.COMPRESSION_TYPE_CONFIG,
+        compressionType != null ? compressionType : profile.getCompressionType());
+    configs.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, idempotence);
+    configs.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, (int) deliveryTimeout.toMillis());
+    if (idempotence) {
+      configs.put(ProducerConfig.ACKS_CONFIG, "all");
+      configs.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+    }
+    return configs;
+  }
+}
@@ -0,0 +1,30 @@
+package com.supplyboost.messaging.producer;
+
+import com.supplyboost.messaging.EventIdProducerInterceptor;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+
+/**
+ * Applies the configured {@link ProducerProfile} to Boot's producer factory and registers the
+ * {@link EventIdProducerInterceptor} unless the service configured its own interceptors.
+ */
+@RequiredArgsConstructor
+public class ProducerTuningCustomizer implements DefaultKafkaProducerFactoryCustomizer {
+
+  private final ProducerProperties properties;
+
+  @Override
+  public void customize(DefaultKafkaProducerFactory<?, ?> producerFactory) {
+    Map<String, Object> configs = properties.producerConfigs();
+    if (!producerFactory
+        .getConfigurationProperties()
+        .containsKey(ProducerConfig.INTERCEPTOR_CLASSES_CONFIG)) {
+      configs.put(
+          ProducerConfig.INTERCEPTOR_CLASSES_CONFIG, EventIdProducerInterceptor.class.getName());
+    }
+    producerFactory.updateConfigs(configs);
+  }
+}
@@ -0,0 +1,10 @@
+package com.supplyboost.messaging.producer;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+
+/** Receives records the producer gave up on, after its own retries were exhausted. */
+@FunctionalInterface
+public interface SendFailureHandler {
+
+  void onFailure(ProducerRecord<String, Object> record, Throwable cause);
+}
@@ -0,0 +1,50 @@
+package com.supplyboost.messaging.producer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+
+/** Per-topic producer meters. */
+@RequiredArgsConstructor
+public class SendMetrics {
+
+  private final MeterRegistry registry;
+
+  /** Time from {@code send()} to broker acknowledgement, tagged with the outcome. */
+  public void recordSend(String topic, long startNanos, Throwable failure) {
+    Timer.builder("messaging.producer.send")
+        .description("Kafka send latency until acknowledgement")
+        .tag("topic", topic)
+        .tag("outcome", failure == null ? "success" : "failure")
+        .tag("exception", failure == null ? "none" : failure.getClass().getSimpleName())
+        .register(registry)
+        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordOutboxed(String topic) {
+    Counter.builder("messaging.producer.outbox.enqueued")
+        .description("Failed sends stored for re-delivery")
+        .tag("topic", topic)
+        .register(registry)
+        .increment();
+  }
+
+  public void recordDead(String topic) {
+    Counter.builder("messaging.producer.outbox.dead")
+        .description("Outbox messages given up on and kept for inspection")
+        .tag("topic", topic)
+        .register(registry)
+        .increment();
+  }
+
+  public void recordRelayed(String topic, boolean success) {
+    Counter.builder("messaging.producer.outbox.relayed")
+        .description("Outbox re-delivery attempts")
+        .tag("topic", topic)
+        .tag("outcome", success ? "success" : "failure")
+        .register(registry)
+        .increment();
+  }
+}
@@ -0,0 +1,33 @@
+package com.supplyboost.messaging.retry;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@code GET /actuator/deadletters} lists the dead-letter topics of this service's groups with
+ * their unreplayed record counts; {@code POST /actuator/deadletters/{topic}} replays them in bulk.
+ */
+@Endpoint(id = "deadletters")
+@RequiredArgsConstructor
+public class DeadLetterEndpoint {
+
+  private static final int DEFAULT_LIMIT = 10_000;
+
+  private final DeadLetterReplayer replayer;
+
+  @ReadOperation
+  public Map<String, Long> pending() {
+    return replayer.pending();
+  }
+
+  @WriteOperation
+  public Map<String, Object> replay(@Selector String topic, @Nullable Integer limit) {
+    int replayed = replayer.replay(topic, limit != null ? limit : DEFAULT_LIMIT);
+    return Map.of("topic", topic, "replayed", replayed);
+  }
+}
@@ -0,0 +1,186 @@
+package com.supplyboost.messaging.retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.kafka.support.KafkaHeaders;
+
+/**
+ * Re-drives dead-lettered records onto the topic they originally came from. Key, value and the
+ * event ID header are copied byte for byte, and retry and dead-letter headers are dropped. The
+ * failed group sees the record as new. Other groups on the same topic already processed it under
+ * that event ID, so their idempotent consumers drop it.
+ *
+ * <p>Progress is committed under {@code <configured group>-dlt-replay}, so each dead-lettered
+ * record is replayed once, and calls can be repeated to work through a large backlog.
+ */
+@Slf4j
+public class DeadLetterReplayer {
+
+  private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+  private final DeadLetterTopics topics;
+  private final Map<String, Object> consumerConfigs;
+  private final Map<String, Object> producerConfigs;
+
+  public DeadLetterReplayer(
+      DeadLetterTopics topics,
+      Map<String, Object> consumerConfigs,
+      Map<String, Object> producerConfigs) {
+    this.topics = topics;
+    this.consumerConfigs = new HashMap<>(consumerConfigs);
+    this.consumerConfigs.put(ConsumerConfig.GROUP_ID_CONFIG, topics.getGroupId() + "-dlt-replay");
+    this.consumerConfigs.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    this.consumerConfigs.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    this.consumerConfigs.put(
+        ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+    this.consumerConfigs.put(
+        ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+    this.consumerConfigs.remove(ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG);
+    this.producerConfigs = new HashMap<>(producerConfigs);
+    this.producerConfigs.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+    this.producerConfigs.put(
+        ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+    this.producerConfigs.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+    this.producerConfigs.put(ProducerConfig.ACKS_CONFIG, "all");
+  }
+
+  /** Records not yet replayed, per dead-letter topic of this service's groups. */
+  public Map<String, Long> pending() {
+    Map<String, Long> pending = new TreeMap<>();
+    try (Consumer<byte[], byte[]> consumer = createConsumer()) {
+      for (String topic : consumer.listTopics().keySet()) {
+        if (!topics.isDeadLetterTopic(topic)) {
+          continue;
+        }
+        List<TopicPartition> partitions = partitions(consumer, topic);
+        Map<TopicPartition, Long> beginning = consumer.beginningOffsets(partitions);
+        Map<TopicPartition, Long> end = consumer.endOffsets(partitions);
+        Map<TopicPartition, OffsetAndMetadata> committed =
+            consumer.committed(new HashSet<>(partitions));
+        long count = 0;
+        for (TopicPartition partition : partitions) {
+          OffsetAndMetadata offset = committed.get(partition);
+          long from = Math.max(beginning.get(partition), offset != null ? offset.offset() : 0L);
+          count += Math.max(0, end.get(partition) - from);
+        }
+        pending.put(topic, count);
+      }
+    }
+    return pending;
+  }
+
+  /**
+   * Replays up to {@code limit} records from {@code deadLetterTopic}. Records written after the
+   * call started are left for the next run.
+   *
+   * @return the number of records replayed
+   */
+  public int replay(String deadLetterTopic, int limit) {
+    String fallbackTarget = topics.originalTopic(deadLetterTopic);
+    int replayed = 0;
+
+    try (Consumer<byte[], byte[]> consumer = createConsumer();
+        Producer<byte[], byte[]> producer = new KafkaProducer<>(producerConfigs)) {
+      List<TopicPartition> partitions = partitions(consumer, deadLetterTopic);
+      consumer.assign(partitions);
+      Map<TopicPartition, Long> end = consumer.endOffsets(partitions);
+
+      while (replayed < limit && !caughtUp(consumer, partitions, end)) {
+        ConsumerRecords<byte[], byte[]> records = consumer.poll(POLL_TIMEOUT);
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        List<Future<RecordMetadata>> sends = new ArrayList<>();
+
+        for (ConsumerRecord<byte[], byte[]> record : records) {
+          TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+          if (replayed >= limit || record.offset() >= end.get(partition)) {
+            continue;
+          }
+          sends.add(producer.send(toOriginal(record, fallbackTarget)));
+          offsets.put(partition, new OffsetAndMetadata(record.offset() + 1));
+          replayed++;
+        }
+
+        for (Future<RecordMetadata> send : sends) {
+          send.get();
+        }
+        if (!offsets.isEmpty()) {
+          consumer.commitSync(offsets);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Replay of " + deadLetterTopic + " interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(
+          "Replay of " + deadLetterTopic + " failed after " + replayed + " records", e.getCause());
+    }
+
+    log.info("Replayed {} records from {}", replayed, deadLetterTopic);
+    return replayed;
+  }
+
+  private Consumer<byte[], byte[]> createConsumer() {
+    return new KafkaConsumer<>(consumerConfigs);
+  }
+
+  static ProducerRecord<byte[], byte[]> toOriginal(
+      ConsumerRecord<byte[], byte[]> record, String fallbackTarget) {
+    // Every retry hop appends an original-topic header; the first one names the source topic
+    Iterator<Header> originalTopics =
+        record.headers().headers(KafkaHeaders.DLT_ORIGINAL_TOPIC).iterator();
+    String target =
+        originalTopics.hasNext()
+            ? new String(originalTopics.next().value(), StandardCharsets.UTF_8)
+            : fallbackTarget;
+
+    RecordHeaders headers = new RecordHeaders();
+    for (Header header : record.headers()) {
+      if (!header.key().startsWith("kafka_dlt-") && !header.key().startsWith("retry_topic-")) {
+        headers.add(header);
+      }
+    }
+    return new ProducerRecord<>(target, null, record.key(), record.value(), headers);
+  }
+
+  private static List<TopicPartition> partitions(Consumer<?, ?> consumer, String topic) {
+    return consumer.partitionsFor(topic).stream()
+        .map(info -> new TopicPartition(topic, info.partition()))
+        .toList();
+  }
+
+  private static boolean caughtUp(
+      Consumer<?, ?> consumer, List<TopicPartition> partitions, Map<TopicPartition, Long> end) {
+    for (TopicPartition partition : partitions) {
+      if (consumer.position(partition) < end.get(partition)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,97 @@
+package com.supplyboost.messaging.retry;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Retry and dead-letter topic names per consumer group. For {@code payment.processed} and group
+ * {@code accounting-service-group} they are {@code
+ * payment.processed-accounting-service-group-retry-0..n} and {@code
+ * payment.processed-accounting-service-group-dlt}, so every group owns its own chain.
+ *
+ * <p>Records dead-lettered by a blocking error handler go to the DLT of the group that failed them.
+ * Non-blocking retry chains are configured once per service and always carry the configured {@link
+ * #getGroupId() group}.
+ */
+public class DeadLetterTopics {
+
+  private static final String DLT = "-dlt";
+
+  private final String groupId;
+  private final Supplier<? extends Collection<String>> listenerGroupIds;
+
+  public DeadLetterTopics(String groupId) {
+    this(groupId, Set::of);
+  }
+
+  /**
+   * @param listenerGroupIds the groups of this service's listeners, whose dead-letter topics are
+   *     listed and replayed alongside the configured group's
+   */
+  public DeadLetterTopics(String groupId, Supplier<? extends Collection<String>> listenerGroupIds) {
+    if (groupId == null || groupId.isBlank()) {
+      throw new IllegalArgumentException(
+          "messaging.consumer.retry.group-id or spring.kafka.consumer.group-id must be set");
+    }
+    this.groupId = groupId;
+    this.listenerGroupIds = listenerGroupIds;
+  }
+
+  public String getGroupId() {
+    return groupId;
+  }
+
+  public String retrySuffix() {
+    return "-" + groupId + "-retry";
+  }
+
+  public String dltSuffix() {
+    return dltSuffix(groupId);
+  }
+
+  public String deadLetterTopic(String topic) {
+    return deadLetterTopic(topic, groupId);
+  }
+
+  /** The dead-letter topic of {@code group}, or of the configured group when it is unknown. */
+  public String deadLetterTopic(String topic, String group) {
+    return topic + dltSuffix(group != null && !group.isBlank() ? group : groupId);
+  }
+
+  public boolean isDeadLetterTopic(String topic) {
+    return groupOf(topic) != null;
+  }
+
+  public String originalTopic(String deadLetterTopic) {
+    String group = groupOf(deadLetterTopic);
+    if (group == null) {
+      throw new IllegalArgumentException(
+          deadLetterTopic + " is not a dead-letter topic of " + groups());
+    }
+    return deadLetterTopic.substring(0, deadLetterTopic.length() - dltSuffix(group).length());
+  }
+
+  private String groupOf(String topic) {
+    String match = null;
+    for (String group : groups()) {
+      // Longest match wins, so group "a-b" is not mistaken for group "b"
+      if (topic.endsWith(dltSuffix(group)) && (match == null || group.length() > match.length())) {
+        match = group;
+      }
+    }
+    return match;
+  }
+
+  private Set<String> groups() {
+    Set<String> groups = new LinkedHashSet<>();
+    groups.add(groupId);
+    groups.addAll(listenerGroupIds.get());
+    return groups;
+  }
+
+  private static String dltSuffix(String group) {
+    return "-" + group + DLT;
+  }
+}
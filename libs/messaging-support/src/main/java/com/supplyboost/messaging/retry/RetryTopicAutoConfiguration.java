@@ -0,0 +1,172 @@
+package com.supplyboost.messaging.retry;
+
+import java.util.List;
+import java.util.Objects;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.support.KafkaUtils;
+
+@AutoConfiguration(after = KafkaAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "messaging.consumer.retry", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RetryTopicProperties.class)
+public class RetryTopicAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public DeadLetterTopics deadLetterTopics(
+      RetryTopicProperties properties,
+      KafkaProperties kafkaProperties,
+      ObjectProvider<KafkaListenerEndpointRegistry> registry) {
+    return new DeadLetterTopics(
+        properties.getGroupId() != null
+            ? properties.getGroupId()
+            : kafkaProperties.getConsumer().getGroupId(),
+        () ->
+            registry.stream()
+                .flatMap(r -> r.getListenerContainers().stream())
+                .map(MessageListenerContainer::getGroupId)
+                .filter(Objects::nonNull)
+                .toList());
+  }
+
+  /**
+   * Used by listeners outside the retry-topic chain, which are the batch listeners. A failed record
+   * is retried in place with bounded back-off, then published to the dead-letter topic of the
+   * consumer group that failed it, and the rest of the batch continues. Boot's container factory
+   * picks this up; services with their own factory set it explicitly.
+   */
+  @Bean
+  @ConditionalOnMissingBean(CommonErrorHandler.class)
+  public DefaultErrorHandler deadLetterErrorHandler(
+      KafkaTemplate<Object, Object> kafkaTemplate,
+      DeadLetterTopics topics,
+      RetryTopicProperties properties) {
+    DeadLetterPublishingRecoverer recoverer =
+        new DeadLetterPublishingRecoverer(
+            kafkaTemplate,
+            // Runs on the consumer thread, which knows the failing listener's group
+            (record, exception) ->
+                new TopicPartition(
+                    topics.deadLetterTopic(record.topic(), KafkaUtils.getConsumerGroupId()), -1));
+    ExponentialBackOffWithMaxRetries backOff =
+        new ExponentialBackOffWithMaxRetries(properties.getAttempts() - 1);
+    backOff.setInitialInterval(properties.getInitialDelay().toMillis());
+    backOff.setMultiplier(properties.getMultiplier());
+    backOff.setMaxInterval(properties.getInPlaceMaxDelay().toMillis());
+    return new DefaultErrorHandler(recoverer, backOff);
+  }
+
+  /**
+   * Non-blocking retries for record listeners. A failed record moves through delayed retry topics
+   * and then to the dead-letter topic, and its source partition keeps flowing meanwhile.
+   */
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "messaging.consumer.retry",
+      name = "non-blocking",
+      havingValue = "true",
+      matchIfMissing = true)
+  public RetryTopicConfiguration retryTopicConfiguration(
+      KafkaTemplate<Object, Object> kafkaTemplate,
+      DeadLetterTopics topics,
+      RetryTopicProperties properties) {
+    RetryTopicConfigurationBuilder builder =
+        RetryTopicConfigurationBuilder.newInstance()
+            .maxAttempts(properties.getAttempts())
+            .exponentialBackoff(
+                properties.getInitialDelay().toMillis(),
+                properties.getMultiplier(),
+                properties.getMaxDelay().toMillis())
+            .retryTopicSuffix(topics.retrySuffix())
+            .dltSuffix(topics.dltSuffix())
+            .suffixTopicsWithIndexValues()
+            .autoCreateTopicsWith(
+                properties.getRetryTopicPartitions(), properties.getRetryTopicReplicationFactor());
+    if (!properties.getExcludeTopics().isEmpty()) {
+      builder.excludeTopics(properties.getExcludeTopics());
+    }
+    return builder.create(kafkaTemplate);
+  }
+
+  /**
+   * Non-blocking chains carry the configured group's name, so a record listener in another group
+   * would share its retry and dead-letter topics. Such a listener fails startup unless its topics
+   * are excluded from the chain.
+   */
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "messaging.consumer.retry",
+      name = "non-blocking",
+      havingValue = "true",
+      matchIfMissing = true)
+  public ApplicationListener<ContextRefreshedEvent> retryTopicGroupCheck(
+      ObjectProvider<KafkaListenerEndpointRegistry> registry,
+      DeadLetterTopics topics,
+      RetryTopicProperties properties) {
+    return event ->
+        registry.ifAvailable(
+            r -> {
+              for (MessageListenerContainer container : r.getListenerContainers()) {
+                String group = container.getGroupId();
+                String[] listenerTopics = container.getContainerProperties().getTopics();
+                if (group == null
+                    || group.startsWith(topics.getGroupId())
+                    || listenerTopics == null
+                    || properties.getExcludeTopics().containsAll(List.of(listenerTopics))) {
+                  continue;
+                }
+                throw new IllegalStateException(
+                    "Listener "
+                        + container.getListenerId()
+                        + " in group "
+                        + group
+                        + " would share the retry topics of "
+                        + topics.getGroupId()
+                        + "; move it to that group or add its topics to"
+                        + " messaging.consumer.retry.exclude-topics");
+              }
+            });
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public DeadLetterReplayer deadLetterReplayer(
+      DeadLetterTopics topics, KafkaProperties kafkaProperties) {
+    return new DeadLetterReplayer(
+        topics,
+        kafkaProperties.buildConsumerProperties(null),
+        kafkaProperties.buildProducerProperties(null));
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(Endpoint.class)
+  static class DeadLetterEndpointConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public DeadLetterEndpoint deadLetterEndpoint(DeadLetterReplayer replayer) {
+      return new DeadLetterEndpoint(replayer);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.supplyboost.messaging.retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "messaging.consumer.retry")
+public class RetryTopicProperties {
+
+  private boolean enabled = false;
+
+  /**
+   * Names the non-blocking retry chain and the replay group; defaults to
+   * spring.kafka.consumer.group-id. Blocking dead-lettering uses the failing listener's group.
+   */
+  private String groupId;
+
+  /** Deliveries per record, including the first, before it goes to the dead-letter topic. */
+  private int attempts = 4;
+
+  private Duration initialDelay = Duration.ofSeconds(1);
+  private double multiplier = 5.0;
+  private Duration maxDelay = Duration.ofMinutes(5);
+
+  /**
+   * Record listeners retry through delayed retry topics. Batch listeners cannot, so they retry in
+   * place instead, with the same back-off capped at {@link #inPlaceMaxDelay}.
+   */
+  private boolean nonBlocking = true;
+
+  private Duration inPlaceMaxDelay = Duration.ofSeconds(10);
+
+  /** Topics consumed by batch listeners, which must stay out of the retry-topic chain. */
+  private List<String> excludeTopics = new ArrayList<>();
+
+  private int retryTopicPartitions = 3;
+  private short retryTopicReplicationFactor = 1;
+}
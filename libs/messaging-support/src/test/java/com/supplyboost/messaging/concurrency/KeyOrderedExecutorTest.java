@@ -0,0 +1,113 @@
+package com.supplyboost.messaging.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+class KeyOrderedExecutorTest {
+
+  private KeyOrderedExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = new KeyOrderedExecutor(4, "test-lane-");
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.destroy();
+  }
+
+  @Test
+  void processInOrder_ShouldPreserveOrderPerKey() {
+    // Arrange
+    List<String> items = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      items.add("ORD-" + (i % 10) + ":" + i);
+    }
+    Map<String, List<Integer>> seen = new ConcurrentHashMap<>();
+
+    // Act
+    executor.processInOrder(
+        items,
+        item -> item.split(":")[0],
+        item -> {
+          String[] parts = item.split(":");
+          seen.computeIfAbsent(parts[0], k -> new CopyOnWriteArrayList<>())
+              .add(Integer.parseInt(parts[1]));
+        });
+
+    // Assert
+    assertEquals(10, seen.size());
+    seen.values()
+        .forEach(
+            sequence -> {
+              assertEquals(20, sequence.size());
+              for (int i = 1; i < sequence.size(); i++) {
+                assertTrue(sequence.get(i - 1) < sequence.get(i));
+              }
+            });
+  }
+
+  @Test
+  void processInOrder_ShouldStopLaneAndReportLowestFailedIndex() {
+    // Arrange
+    List<String> items = List.of("A:0", "A:1", "A:2", "B:3");
+    List<String> processed = new CopyOnWriteArrayList<>();
+
+    // Act
+    BatchListenerFailedException exception =
+        assertThrows(
+            BatchListenerFailedException.class,
+            () ->
+                executor.processInOrder(
+                    items,
+                    item -> item.split(":")[0],
+                    item -> {
+                      if (item.equals("A:1")) {
+                        throw new IllegalStateException("boom");
+                      }
+                      processed.add(item);
+                    }));
+
+    // Assert
+    assertEquals(1, exception.getIndex());
+    assertTrue(processed.contains("A:0"));
+    assertFalse(processed.contains("A:2"));
+    assertTrue(processed.contains("B:3"));
+  }
+
+  @Test
+  void processInOrder_ShouldReportItemsHandledPastFailedIndex() {
+    // Arrange: A and B hash to different lanes
+    List<String> items = List.of("B:0", "A:1", "B:2", "A:3");
+    List<String> redelivered = new CopyOnWriteArrayList<>();
+
+    // Act
+    BatchListenerFailedException exception =
+        assertThrows(
+            BatchListenerFailedException.class,
+            () ->
+                executor.processInOrder(
+                    items,
+                    item -> item.split(":")[0],
+                    item -> {
+                      if (item.equals("A:1")) {
+                        throw new IllegalStateException("boom");
+                      }
+                    },
+                    redelivered::add));
+
+    // Assert: B:0 is committed, A:3 never ran, B:2 ran and would be redelivered
+    assertEquals(1, exception.getIndex());
+    assertEquals(List.of("B:2"), redelivered);
+  }
+}
@@ -0,0 +1,162 @@
+package com.supplyboost.messaging.idempotency;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+  @Mock private ProcessedMessageRepository repository;
+
+  private IdempotencyStore store;
+
+  @BeforeEach
+  void setUp() {
+    IdempotencyProperties properties = new IdempotencyProperties();
+    properties.setExpectedInsertions(1_000);
+    properties.setRecentCacheSize(2);
+    store = new IdempotencyStore(repository, properties);
+  }
+
+  @Test
+  void isDuplicate_ShouldSkipDatabaseForUnseenEvent() {
+    // Act
+    boolean duplicate = store.isDuplicate("group", "evt-1");
+
+    // Assert
+    assertFalse(duplicate);
+    verify(repository, never()).exists(anyString(), anyString());
+  }
+
+  @Test
+  void isDuplicate_ShouldAnswerFromMemoryAfterMarkProcessed() {
+    // Arrange
+    store.markProcessed("group", "evt-1");
+
+    // Act
+    boolean duplicate = store.isDuplicate("group", "evt-1");
+
+    // Assert
+    assertTrue(duplicate);
+    verify(repository).insert(eq("group"), eq("evt-1"), any());
+    verify(repository, never()).exists(anyString(), anyString());
+  }
+
+  @Test
+  void isDuplicate_ShouldConfirmBloomHitAgainstDatabaseOnceEvicted() {
+    // Arrange
+    store.markProcessed("group", "evt-1");
+    store.markProcessed("group", "evt-2");
+    store.markProcessed("group", "evt-3");
+    when(repository.exists("group", "evt-1")).thenReturn(true);
+
+    // Act
+    boolean duplicate = store.isDuplicate("group", "evt-1");
+
+    // Assert
+    assertTrue(duplicate);
+    verify(repository).exists("group", "evt-1");
+  }
+
+  @Test
+  void isDuplicate_ShouldScopeEventIdsByConsumerGroup() {
+    // Arrange
+    store.markProcessed("accounting-service-group", "evt-1");
+
+    // Act & Assert
+    assertFalse(store.isDuplicate("notification-service-group", "evt-1"));
+  }
+
+  @Test
+  void catchUp_ShouldRecogniseEventsRecordedByPreviousPartitionOwner() {
+    // Arrange: two instances of one group sharing the processed_messages table
+    InMemoryRepository table = new InMemoryRepository();
+    IdempotencyProperties properties = new IdempotencyProperties();
+    properties.setExpectedInsertions(1_000);
+    IdempotencyStore previousOwner = new IdempotencyStore(table, properties);
+    IdempotencyStore newOwner = new IdempotencyStore(table, properties);
+    previousOwner.start();
+    newOwner.start();
+    previousOwner.markProcessed("group", "evt-1");
+    assertFalse(newOwner.isDuplicate("group", "evt-1"));
+
+    // Act: the partition moves to the new owner
+    new IdempotentRebalanceListener(newOwner)
+        .onPartitionsAssigned(null, List.of(new TopicPartition("payment.processed", 0)));
+
+    // Assert
+    assertTrue(newOwner.isDuplicate("group", "evt-1"));
+    assertFalse(newOwner.isDuplicate("group", "evt-2"));
+  }
+
+  @Test
+  void bloomFilter_ShouldNeverReturnFalseNegatives() {
+    // Arrange
+    BloomFilter filter = new BloomFilter(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put("evt-" + i);
+    }
+
+    // Act & Assert
+    for (int i = 0; i < 10_000; i++) {
+      assertTrue(filter.mightContain("evt-" + i));
+    }
+    long falsePositives = 0;
+    for (int i = 10_000; i < 20_000; i++) {
+      if (filter.mightContain("evt-" + i)) {
+        falsePositives++;
+      }
+    }
+    assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+  }
+
+  private static class InMemoryRepository extends ProcessedMessageRepository {
+
+    private final Map<String, Instant> rows = new ConcurrentHashMap<>();
+
+    InMemoryRepository() {
+      super(null, null);
+    }
+
+    @Override
+    public boolean exists(String consumerGroup, String eventId) {
+      return rows.containsKey(consumerGroup + ':' + eventId);
+    }
+
+    @Override
+    public boolean insert(String consumerGroup, String eventId, Instant processedAt) {
+      return rows.putIfAbsent(consumerGroup + ':' + eventId, processedAt) == null;
+    }
+
+    @Override
+    public void insertAll(String consumerGroup, Collection<String> eventIds, Instant processedAt) {
+      eventIds.forEach(eventId -> insert(consumerGroup, eventId, processedAt));
+    }
+
+    @Override
+    public void forEachProcessedSince(Instant since, BiConsumer<String, String> action) {
+      rows.forEach(
+          (key, processedAt) -> {
+            if (!processedAt.isBefore(since)) {
+              String[] parts = key.split(":", 2);
+              action.accept(parts[0], parts[1]);
+            }
+          });
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.supplyboost.messaging.producer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.supplyboost.messaging.EventHeaders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaProducerException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+@ExtendWith(MockitoExtension.class)
+class EventSenderTest {
+
+  @Mock private KafkaTemplate<String, Object> kafkaTemplate;
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final AtomicReference<ProducerRecord<String, Object>> failed = new AtomicReference<>();
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+  private EventSender sender;
+
+  @BeforeEach
+  void setUp() {
+    sender =
+        new EventSender(
+            kafkaTemplate,
+            new SendMetrics(registry),
+            (record, cause) -> {
+              failed.set(record);
+              failure.set(cause);
+            });
+  }
+
+  @Test
+  void send_ShouldRecordLatencyPerTopic() {
+    // Arrange
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+    // Act
+    sender.send("order.created", "ORD-1", "event");
+
+    // Assert
+    assertEquals(
+        1,
+        registry
+            .get("messaging.producer.send")
+            .tag("topic", "order.created")
+            .tag("outcome", "success")
+            .timer()
+            .count());
+    assertNull(failed.get());
+  }
+
+  @Test
+  void send_ShouldHandOverFailedRecordWithItsEventId() {
+    // Arrange
+    TimeoutException timeout = new TimeoutException("expired");
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(
+            CompletableFuture.failedFuture(
+                new KafkaProducerException(null, "Failed to send", timeout)));
+
+    // Act
+    sender.send("order.created", "ORD-1", "event");
+
+    // Assert
+    assertSame(timeout, failure.get());
+    assertEquals("ORD-1", failed.get().key());
+    assertNotNull(EventHeaders.eventId(failed.get().headers()));
+    assertEquals(
+        1,
+        registry
+            .get("messaging.producer.send")
+            .tag("outcome", "failure")
+            .tag("exception", "TimeoutException")
+            .timer()
+            .count());
+  }
+
+  @Test
+  void send_ShouldKeepDerivedEventIdAcrossResends() {
+    // Arrange
+    TimeoutException timeout = new TimeoutException("expired");
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(
+            CompletableFuture.failedFuture(
+                new KafkaProducerException(null, "Failed to send", timeout)));
+    String eventId = EventHeaders.eventIdOf("shipment.created", "SHP-1", "corr-1");
+
+    // Act
+    sender.send("shipment.created", "SHP-1", "event", eventId);
+
+    // Assert
+    assertEquals(eventId, EventHeaders.eventId(failed.get().headers()));
+    assertEquals(eventId, EventHeaders.eventIdOf("shipment.created", "SHP-1", "corr-1"));
+    assertNotEquals(eventId, EventHeaders.eventIdOf("shipment.created", "SHP-1", "corr-2"));
+  }
+
+  @Test
+  void send_ShouldNotThrowWhenTemplateFailsSynchronously() {
+    // Arrange
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenThrow(new IllegalStateException("producer closed"));
+
+    // Act
+    CompletableFuture<SendResult<String, Object>> result =
+        sender.send("order.created", "ORD-1", "event");
+
+    // Assert
+    assertTrue(result.isCompletedExceptionally());
+    assertInstanceOf(IllegalStateException.class, failure.get());
+  }
+}
@@ -0,0 +1,139 @@
+package com.supplyboost.messaging.producer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+  @Mock private OutboxRepository repository;
+  @Mock private KafkaTemplate<String, Object> kafkaTemplate;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ProducerProperties properties = new ProducerProperties();
+
+  private OutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    properties.getOutbox().setMaxAttempts(3);
+    relay =
+        new OutboxRelay(
+            repository, kafkaTemplate, new SendMetrics(registry), properties, transactionManager);
+  }
+
+  @Test
+  void onFailure_ShouldStoreRecordInItsOwnTransaction() throws Exception {
+    // Arrange
+    ProducerRecord<String, Object> record = new ProducerRecord<>("order.created", "ORD-1", "event");
+
+    // Act
+    relay.onFailure(record, new TimeoutException("expired"));
+    relay.destroy();
+
+    // Assert
+    verify(repository).insert(any(OutboxMessage.class), anyString(), any(Instant.class));
+    verify(transactionManager)
+        .getTransaction(
+            argThat(
+                definition ->
+                    definition.getPropagationBehavior()
+                        == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    assertEquals(1.0, registry.get("messaging.producer.outbox.enqueued").counter().count());
+  }
+
+  @Test
+  void onFailure_ShouldStoreNonRetriableRecordAsDead() throws Exception {
+    // Arrange
+    ProducerRecord<String, Object> record = new ProducerRecord<>("order.created", "ORD-1", "event");
+
+    // Act
+    relay.onFailure(record, new RecordTooLargeException("too large"));
+    relay.destroy();
+
+    // Assert
+    verify(repository).insertDead(any(OutboxMessage.class), anyString(), any(Instant.class));
+    verify(repository, never()).insert(any(), anyString(), any());
+    assertEquals(1.0, registry.get("messaging.producer.outbox.dead").counter().count());
+  }
+
+  @Test
+  void relay_ShouldRescheduleFailedMessageBelowAttemptCap() {
+    // Arrange
+    when(repository.claimDue(anyInt(), any(), any())).thenReturn(List.of(message(1)));
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.failedFuture(new TimeoutException("expired")));
+
+    // Act
+    relay.relay();
+
+    // Assert
+    verify(repository).reschedule(eq(7L), eq(2), any(Instant.class), anyString());
+    verify(repository, never()).markDead(anyLong(), anyInt(), anyString(), any());
+  }
+
+  @Test
+  void relay_ShouldMarkMessageDeadOnceAttemptCapIsReached() {
+    // Arrange
+    when(repository.claimDue(anyInt(), any(), any())).thenReturn(List.of(message(2)));
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.failedFuture(new TimeoutException("expired")));
+
+    // Act
+    relay.relay();
+
+    // Assert
+    verify(repository).markDead(eq(7L), eq(3), anyString(), any(Instant.class));
+    verify(repository, never()).reschedule(anyLong(), anyInt(), any(), anyString());
+    assertEquals(1.0, registry.get("messaging.producer.outbox.dead").counter().count());
+  }
+
+  @Test
+  void relay_ShouldMarkNonRetriableFailureDeadImmediately() {
+    // Arrange
+    when(repository.claimDue(anyInt(), any(), any())).thenReturn(List.of(message(0)));
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException("too large")));
+
+    // Act
+    relay.relay();
+
+    // Assert
+    verify(repository).markDead(eq(7L), eq(1), anyString(), any(Instant.class));
+  }
+
+  private static OutboxMessage message(int attempts) {
+    return OutboxMessage.builder()
+        .id(7L)
+        .topic("order.created")
+        .messageKey("ORD-1")
+        .eventId("evt-1")
+        .payloadType(String.class.getName())
+        .payload("\"event\"")
+        .attempts(attempts)
+        .build();
+  }
+}
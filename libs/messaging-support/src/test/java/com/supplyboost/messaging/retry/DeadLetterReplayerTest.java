@@ -0,0 +1,96 @@
+package com.supplyboost.messaging.retry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.supplyboost.messaging.EventHeaders;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.KafkaHeaders;
+
+class DeadLetterReplayerTest {
+
+  private final DeadLetterTopics topics = new DeadLetterTopics("accounting-service-group");
+
+  @Test
+  void deadLetterTopics_ShouldBeScopedToGroup() {
+    // Act
+    String dlt = topics.deadLetterTopic("payment.processed");
+
+    // Assert
+    assertEquals("payment.processed-accounting-service-group-dlt", dlt);
+    assertTrue(topics.isDeadLetterTopic(dlt));
+    assertFalse(topics.isDeadLetterTopic("payment.processed-notification-service-group-dlt"));
+    assertEquals("payment.processed", topics.originalTopic(dlt));
+  }
+
+  @Test
+  void deadLetterTopics_ShouldKeepEachListenerGroupApart() {
+    // Arrange
+    DeadLetterTopics serviceTopics =
+        new DeadLetterTopics(
+            "order-service-group", () -> List.of("order-service-group", "order-search-projector"));
+
+    // Act
+    String projectorDlt =
+        serviceTopics.deadLetterTopic("order.status.changed", "order-search-projector");
+    String cacheDlt = serviceTopics.deadLetterTopic("order.status.changed", "order-service-group");
+
+    // Assert
+    assertEquals("order.status.changed-order-search-projector-dlt", projectorDlt);
+    assertNotEquals(cacheDlt, projectorDlt);
+    assertTrue(serviceTopics.isDeadLetterTopic(projectorDlt));
+    assertEquals("order.status.changed", serviceTopics.originalTopic(projectorDlt));
+    assertEquals(
+        "order.status.changed-order-service-group-dlt",
+        serviceTopics.deadLetterTopic("order.status.changed", null));
+  }
+
+  @Test
+  void toOriginal_ShouldTargetSourceTopicAndKeepEventId() {
+    // Arrange
+    ConsumerRecord<byte[], byte[]> record = deadLetter();
+    header(record, KafkaHeaders.DLT_ORIGINAL_TOPIC, "payment.processed");
+    header(record, KafkaHeaders.DLT_ORIGINAL_TOPIC, "payment.processed-grp-retry-0");
+    header(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE, "boom");
+    header(record, "retry_topic-attempts", "4");
+    header(record, EventHeaders.EVENT_ID, "evt-1");
+
+    // Act
+    ProducerRecord<byte[], byte[]> replay = DeadLetterReplayer.toOriginal(record, "fallback");
+
+    // Assert
+    assertEquals("payment.processed", replay.topic());
+    assertNull(replay.partition());
+    assertArrayEquals(record.key(), replay.key());
+    assertArrayEquals(record.value(), replay.value());
+    assertEquals("evt-1", EventHeaders.eventId(replay.headers()));
+    assertEquals(1, replay.headers().toArray().length);
+  }
+
+  @Test
+  void toOriginal_ShouldFallBackToTopicName() {
+    // Act
+    ProducerRecord<byte[], byte[]> replay =
+        DeadLetterReplayer.toOriginal(
+            deadLetter(), topics.originalTopic("payment.processed-accounting-service-group-dlt"));
+
+    // Assert
+    assertEquals("payment.processed", replay.topic());
+  }
+
+  private static ConsumerRecord<byte[], byte[]> deadLetter() {
+    return new ConsumerRecord<>(
+        "payment.processed-accounting-service-group-dlt",
+        0,
+        7L,
+        "PAY-1".getBytes(StandardCharsets.UTF_8),
+        new byte[] {(byte) 0xC3, 0x01, 42});
+  }
+
+  private static void header(ConsumerRecord<?, ?> record, String key, String value) {
+    record.headers().add(key, value.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -1,6 +1,7 @@
 package com.supplyboost.accounting.config;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -16,4 +17,44 @@ public class AccountingConfig {
   private String companyEmail = "billing@supplyboost.com";
   private String companyPhone = "+1-555-0100";
   private BigDecimal taxRate = new BigDecimal("0.10");
+
+  /** How long clients may reuse a downloaded PDF before revalidating it by ETag. */
+  private Duration pdfCacheMaxAge = Duration.ofHours(1);
+
+  private PdfRenderConfig pdfRender = new PdfRenderConfig();
+  private PdfExportConfig pdfExport = new PdfExportConfig();
+  private ExportConfig export = new ExportConfig();
+
+  @Data
+  public static class PdfRenderConfig {
+    /** Invoices rendered in parallel on this instance. */
+    private int workers = 4;
+
+    private Duration pollInterval = Duration.ofSeconds(2);
+
+    /** Queued renders claimed per poll. */
+    private int batchSize = 50;
+
+    /** How long a claimed render stays hidden from other workers. */
+    private Duration lease = Duration.ofMinutes(5);
+
+    private int maxAttempts = 5;
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofMinutes(30);
+  }
+
+  @Data
+  public static class PdfExportConfig {
+    /** Directory that month-end exports are written to. */
+    private String path = "/tmp/invoice-exports";
+
+    /** Invoices read per query while streaming an export. */
+    private int pageSize = 500;
+  }
+
+  @Data
+  public static class ExportConfig {
+    /** Rows the JDBC driver fetches per round trip when streaming CSV/JSONL exports. */
+    private int fetchSize = 1000;
+  }
 }
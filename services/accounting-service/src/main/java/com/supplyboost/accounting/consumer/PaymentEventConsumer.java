@@ -1,10 +1,13 @@
 package com.supplyboost.accounting.consumer;
 
-import com.supplyboost.accounting.event.PaymentProcessedEvent;
-import com.supplyboost.accounting.service.InvoiceService;
+import com.supplyboost.accounting.service.AccountingBatchService;
+import com.supplyboost.events.PaymentProcessedEvent;
+import com.supplyboost.events.serde.EventSerdeConfig;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -12,31 +15,30 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class PaymentEventConsumer {
 
-  private final InvoiceService invoiceService;
+  private final AccountingBatchService accountingBatchService;
 
-  @KafkaListener(topics = "payment.processed", groupId = "accounting-service-group")
-  public void handlePaymentProcessed(PaymentProcessedEvent event) {
-    log.info("Received payment processed event for payment: {}", event.getPaymentNumber());
+  @KafkaListener(
+      topics = "payment.processed",
+      groupId = "accounting-service-group",
+      properties = EventSerdeConfig.VALUE_TYPE + "=com.supplyboost.events.PaymentProcessedEvent")
+  public void handlePaymentProcessed(List<PaymentProcessedEvent> events) {
+    log.info("Received {} payment processed events", events.size());
 
     try {
-      // Only create invoice if payment was successful
-      if ("SUCCEEDED".equals(event.getStatus())) {
-        invoiceService.createInvoice(
-            event.getOrderId(),
-            event.getOrderNumber(),
-            null, // userId not provided in event
-            event.getCustomerName(),
-            event.getCustomerEmail(),
-            event.getAmount(),
-            event.getPaymentNumber());
-
-        log.info("Invoice created for payment: {}", event.getPaymentNumber());
-      } else {
-        log.warn("Payment failed for order {}, no invoice created", event.getOrderNumber());
-      }
-
+      accountingBatchService.createInvoices(events);
     } catch (Exception e) {
-      log.error("Failed to create invoice for payment: {}", event.getPaymentNumber(), e);
+      // One bad record rolls back the whole batch; retry individually to isolate it
+      log.warn("Invoice batch of {} failed, retrying events one by one", events.size(), e);
+      for (int i = 0; i < events.size(); i++) {
+        PaymentProcessedEvent event = events.get(i);
+        try {
+          accountingBatchService.createInvoices(List.of(event));
+        } catch (Exception ex) {
+          // Earlier events are committed; the error handler retries or dead-letters this one
+          throw new BatchListenerFailedException(
+              "Failed to create invoice for payment: " + event.getPaymentNumber(), ex, i);
+        }
+      }
     }
   }
 }
@@ -1,12 +1,13 @@
 package com.supplyboost.accounting.consumer;
 
-import com.supplyboost.accounting.event.ShipmentCreatedEvent;
-import com.supplyboost.accounting.model.Invoice;
-import com.supplyboost.accounting.service.InvoiceService;
-import com.supplyboost.accounting.service.RevenueRecognitionService;
+import com.supplyboost.accounting.service.AccountingBatchService;
+import com.supplyboost.events.ShipmentEvent;
+import com.supplyboost.events.serde.EventSerdeConfig;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -14,38 +15,30 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ShipmentEventConsumer {
 
-  private final InvoiceService invoiceService;
-  private final RevenueRecognitionService revenueRecognitionService;
+  private final AccountingBatchService accountingBatchService;
 
-  @KafkaListener(topics = "shipment.created", groupId = "accounting-service-group")
-  public void handleShipmentCreated(ShipmentCreatedEvent event) {
-    log.info("Received shipment created event for shipment: {}", event.getShipmentNumber());
+  @KafkaListener(
+      topics = "shipment.created",
+      groupId = "accounting-service-group",
+      properties = EventSerdeConfig.VALUE_TYPE + "=com.supplyboost.events.ShipmentEvent")
+  public void handleShipmentCreated(List<ShipmentEvent> events) {
+    log.info("Received {} shipment created events", events.size());
 
     try {
-      // Associate shipment with invoice
-      invoiceService.associateShipment(
-          event.getOrderId(), event.getShipmentId(), event.getShipmentNumber());
-
-      // Get invoice and issue it
-      Invoice invoice = invoiceService.getInvoiceByOrderNumber(event.getOrderNumber());
-      invoice = invoiceService.issueInvoice(invoice.getId());
-
-      // Recognize revenue (revenue is recognized when goods are shipped)
-      revenueRecognitionService.recognizeRevenue(
-          invoice, "Revenue recognized on shipment: " + event.getShipmentNumber());
-
-      // Recognize tax collected
-      revenueRecognitionService.recognizeTax(invoice);
-
-      // Mark invoice as paid (assuming payment already processed)
-      invoiceService.markAsPaid(invoice.getId());
-
-      log.info(
-          "Invoice issued and revenue recognized for shipment: {}", event.getShipmentNumber());
-
+      accountingBatchService.settleShipments(events);
     } catch (Exception e) {
-      log.error(
-          "Failed to process accounting for shipment: {}", event.getShipmentNumber(), e);
+      // One bad record rolls back the whole batch; retry individually to isolate it
+      log.warn("Shipment batch of {} failed, retrying events one by one", events.size(), e);
+      for (int i = 0; i < events.size(); i++) {
+        ShipmentEvent event = events.get(i);
+        try {
+          accountingBatchService.settleShipments(List.of(event));
+        } catch (Exception ex) {
+          // Earlier events are committed; the error handler retries or dead-letters this one
+          throw new BatchListenerFailedException(
+              "Failed to process accounting for shipment: " + event.getShipmentNumber(), ex, i);
+        }
+      }
     }
   }
 }
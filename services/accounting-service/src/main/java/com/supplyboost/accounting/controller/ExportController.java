@@ -0,0 +1,79 @@
+package com.supplyboost.accounting.controller;
+
+import com.supplyboost.accounting.export.ExportFormat;
+import com.supplyboost.accounting.service.AccountingExportService;
+import com.supplyboost.accounting.service.AccountingExportService.Dataset;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Streams exports for {@code [from, to)} as CSV or JSON lines, gzip-encoded when the client accepts
+ * it.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+  private final AccountingExportService exportService;
+
+  @GetMapping("/invoices")
+  public ResponseEntity<StreamingResponseBody> exportInvoices(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(defaultValue = "CSV") ExportFormat format,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+    return stream(Dataset.INVOICES, from, to, format, acceptEncoding);
+  }
+
+  @GetMapping("/revenue")
+  public ResponseEntity<StreamingResponseBody> exportRevenue(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(defaultValue = "CSV") ExportFormat format,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+    return stream(Dataset.REVENUE, from, to, format, acceptEncoding);
+  }
+
+  private ResponseEntity<StreamingResponseBody> stream(
+      Dataset dataset, LocalDate from, LocalDate to, ExportFormat format, String acceptEncoding) {
+    log.info("Exporting {} from {} to {} as {}", dataset, from, to, format);
+    boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.parseMediaType(format.getContentType()));
+    headers.setContentDisposition(
+        ContentDisposition.attachment()
+            .filename(
+                dataset.name().toLowerCase() + "-" + from + "-" + to + "." + format.getExtension())
+            .build());
+    headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+    if (gzip) {
+      headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+
+    StreamingResponseBody body =
+        out -> {
+          if (gzip) {
+            GZIPOutputStream compressed = new GZIPOutputStream(out, 1 << 16);
+            exportService.export(
+                dataset, from.atStartOfDay(), to.atStartOfDay(), format, compressed);
+            compressed.finish();
+          } else {
+            exportService.export(dataset, from.atStartOfDay(), to.atStartOfDay(), format, out);
+          }
+        };
+    return ResponseEntity.ok().headers(headers).body(body);
+  }
+}
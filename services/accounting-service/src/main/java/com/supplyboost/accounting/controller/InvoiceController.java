@@ -1,12 +1,30 @@
 package com.supplyboost.accounting.controller;
 
+import com.supplyboost.accounting.config.AccountingConfig;
 import com.supplyboost.accounting.model.Invoice;
+import com.supplyboost.accounting.service.InvoiceExportService;
 import com.supplyboost.accounting.service.InvoiceService;
+import com.supplyboost.accounting.storage.StoredPdf;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Slf4j
 @RestController
@@ -14,7 +32,15 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class InvoiceController {
 
+  // Tomcat writes the file straight from the page cache when these request attributes are set
+  private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
   private final InvoiceService invoiceService;
+  private final InvoiceExportService invoiceExportService;
+  private final AccountingConfig accountingConfig;
 
   @GetMapping("/order/{orderNumber}")
   public ResponseEntity<Invoice> getInvoiceByOrderNumber(@PathVariable String orderNumber) {
@@ -30,6 +56,59 @@ public class InvoiceController {
     return ResponseEntity.ok(invoices);
   }
 
+  /**
+   * Serves the stored PDF without loading it on the heap. Full downloads use the container's
+   * sendfile; {@code Range} requests are answered with 206 from the file; unchanged files get 304.
+   */
+  @GetMapping(value = "/{invoiceId}/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
+  public ResponseEntity<Resource> downloadPdf(
+      @PathVariable Long invoiceId, ServletWebRequest webRequest) {
+    Invoice invoice = invoiceService.getInvoice(invoiceId);
+    Optional<StoredPdf> stored = invoiceService.getInvoicePdf(invoice);
+    if (stored.isEmpty()) {
+      return ResponseEntity.notFound().build();
+    }
+
+    StoredPdf pdf = stored.get();
+    if (webRequest.checkNotModified(pdf.getEtag(), pdf.getLastModified().toEpochMilli())) {
+      return null;
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_PDF);
+    headers.setContentDisposition(
+        ContentDisposition.inline().filename(invoice.getInvoiceNumber() + ".pdf").build());
+    headers.setCacheControl(
+        CacheControl.maxAge(accountingConfig.getPdfCacheMaxAge()).cachePrivate());
+    headers.setETag("\"" + pdf.getEtag() + "\"");
+    headers.setLastModified(pdf.getLastModified());
+    headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+    if (sendfile(webRequest.getRequest(), pdf)) {
+      headers.setContentLength(pdf.getSize());
+      return new ResponseEntity<>(headers, HttpStatus.OK);
+    }
+    return new ResponseEntity<>(new FileSystemResource(pdf.getPath()), headers, HttpStatus.OK);
+  }
+
+  private boolean sendfile(HttpServletRequest request, StoredPdf pdf) {
+    if (!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))
+        || !HttpMethod.GET.matches(request.getMethod())
+        || request.getHeader(HttpHeaders.RANGE) != null) {
+      return false;
+    }
+    try {
+      request.setAttribute(SENDFILE_FILENAME, pdf.getPath().toFile().getCanonicalPath());
+    } catch (IOException | IllegalArgumentException e) {
+      log.debug("Serving {} without sendfile: {}", pdf.getKey(), e.toString());
+      request.removeAttribute(SENDFILE_FILENAME);
+      return false;
+    }
+    request.setAttribute(SENDFILE_START, 0L);
+    request.setAttribute(SENDFILE_END, pdf.getSize());
+    return true;
+  }
+
   @PostMapping("/{invoiceId}/issue")
   public ResponseEntity<Invoice> issueInvoice(@PathVariable Long invoiceId) {
     log.info("Issuing invoice: {}", invoiceId);
@@ -37,6 +116,17 @@ public class InvoiceController {
     return ResponseEntity.ok(invoice);
   }
 
+  /** Starts a month-end export; the file appears under the returned name once complete. */
+  @PostMapping("/exports")
+  public ResponseEntity<Map<String, String>> exportMonth(
+      @RequestParam YearMonth month,
+      @RequestParam(defaultValue = "ZIP") InvoiceExportService.Format format) {
+    log.info("Exporting {} invoices as {}", month, format);
+    Path file = invoiceExportService.submit(month, format);
+    return ResponseEntity.accepted()
+        .body(Map.of("month", month.toString(), "format", format.name(), "file", file.toString()));
+  }
+
   @PostMapping("/{invoiceId}/mark-paid")
   public ResponseEntity<Invoice> markAsPaid(@PathVariable Long invoiceId) {
     log.info("Marking invoice as paid: {}", invoiceId);
@@ -0,0 +1,65 @@
+package com.supplyboost.accounting.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/** RFC 4180 CSV with a header row of column labels. */
+class CsvRowWriter implements RowWriter {
+
+  private final Writer writer;
+  private int columns = -1;
+
+  CsvRowWriter(OutputStream out) {
+    this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+  }
+
+  @Override
+  public void write(ResultSet row) throws SQLException, IOException {
+    if (columns < 0) {
+      ResultSetMetaData metaData = row.getMetaData();
+      columns = metaData.getColumnCount();
+      for (int i = 1; i <= columns; i++) {
+        field(i, metaData.getColumnLabel(i));
+      }
+      writer.write("\r\n");
+    }
+    for (int i = 1; i <= columns; i++) {
+      Object value = row.getObject(i);
+      field(
+          i,
+          value instanceof Timestamp timestamp
+              ? timestamp.toLocalDateTime().toString()
+              : value == null ? "" : value.toString());
+    }
+    writer.write("\r\n");
+  }
+
+  @Override
+  public void finish() throws IOException {
+    writer.flush();
+  }
+
+  private void field(int column, String value) throws IOException {
+    if (column > 1) {
+      writer.write(',');
+    }
+    if (value.indexOf(',') < 0
+        && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      writer.write(value);
+      return;
+    }
+    writer.write('"');
+    writer.write(value.replace("\"", "\"\""));
+    writer.write('"');
+  }
+}
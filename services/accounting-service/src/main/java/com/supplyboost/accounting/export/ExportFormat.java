@@ -0,0 +1,30 @@
+package com.supplyboost.accounting.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public enum ExportFormat {
+  CSV("text/csv", "csv"),
+  JSONL("application/x-ndjson", "jsonl");
+
+  private final String contentType;
+  private final String extension;
+
+  ExportFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+
+  public RowWriter writer(OutputStream out, ObjectMapper objectMapper) throws IOException {
+    return this == CSV ? new CsvRowWriter(out) : new JsonLinesRowWriter(out, objectMapper);
+  }
+}
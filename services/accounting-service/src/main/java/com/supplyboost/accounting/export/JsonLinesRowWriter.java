@@ -0,0 +1,58 @@
+package com.supplyboost.accounting.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/** One JSON object per line, keyed by column label. */
+class JsonLinesRowWriter implements RowWriter {
+
+  private final JsonGenerator generator;
+  private String[] labels;
+
+  JsonLinesRowWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+    this.generator = objectMapper.getFactory().createGenerator(out);
+    generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+    generator.setRootValueSeparator(null);
+  }
+
+  @Override
+  public void write(ResultSet row) throws SQLException, IOException {
+    if (labels == null) {
+      ResultSetMetaData metaData = row.getMetaData();
+      labels = new String[metaData.getColumnCount()];
+      for (int i = 0; i < labels.length; i++) {
+        labels[i] = metaData.getColumnLabel(i + 1);
+      }
+    }
+    generator.writeStartObject();
+    for (int i = 0; i < labels.length; i++) {
+      Object value = row.getObject(i + 1);
+      generator.writeFieldName(labels[i]);
+      if (value == null) {
+        generator.writeNull();
+      } else if (value instanceof BigDecimal decimal) {
+        generator.writeNumber(decimal);
+      } else if (value instanceof Long || value instanceof Integer) {
+        generator.writeNumber(((Number) value).longValue());
+      } else if (value instanceof Timestamp timestamp) {
+        generator.writeString(timestamp.toLocalDateTime().toString());
+      } else {
+        generator.writeString(value.toString());
+      }
+    }
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+  }
+
+  @Override
+  public void finish() throws IOException {
+    generator.flush();
+  }
+}
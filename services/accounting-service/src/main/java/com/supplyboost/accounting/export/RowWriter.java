@@ -0,0 +1,15 @@
+package com.supplyboost.accounting.export;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/** Writes result set rows as they are read, holding nothing beyond the current row. */
+public interface RowWriter {
+
+  /** Writes the current row; the first call also writes any header. */
+  void write(ResultSet row) throws SQLException, IOException;
+
+  /** Flushes buffered output. Does not close the underlying stream. */
+  void finish() throws IOException;
+}
@@ -17,7 +17,11 @@ import lombok.NoArgsConstructor;
 public class Invoice {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "invoices_id_seq")
+  @SequenceGenerator(
+      name = "invoices_id_seq",
+      sequenceName = "invoices_id_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(name = "invoice_number", unique = true, nullable = false)
@@ -66,6 +70,14 @@ public class Invoice {
   @Column(name = "pdf_file_path")
   private String pdfFilePath;
 
+  /** When the PDF render was queued; null once rendered or given up on. */
+  @Column(name = "pdf_requested_at")
+  private LocalDateTime pdfRequestedAt;
+
+  @Column(name = "pdf_attempts", nullable = false)
+  @Builder.Default
+  private Integer pdfAttempts = 0;
+
   @Column(name = "created_at", nullable = false, updatable = false)
   private LocalDateTime createdAt;
 
@@ -17,7 +17,11 @@ import lombok.NoArgsConstructor;
 public class RevenueRecognition {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "revenue_recognition_id_seq")
+  @SequenceGenerator(
+      name = "revenue_recognition_id_seq",
+      sequenceName = "revenue_recognition_id_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(name = "invoice_id", nullable = false)
@@ -0,0 +1,78 @@
+package com.supplyboost.accounting.repository;
+
+import com.supplyboost.accounting.model.Invoice;
+import com.supplyboost.accounting.model.RevenueRecognition;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC batch inserts for the batch Kafka listeners, inside the caller's transaction. Rows take
+ * their IDs from the column default, which draws a whole pooled-lo block per row, so they never
+ * collide with IDs Hibernate hands out.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountingBatchRepository {
+
+  private static final String INSERT_INVOICE =
+      "INSERT INTO invoices (invoice_number, order_id, order_number, user_id, customer_name,"
+          + " customer_email, subtotal, tax_amount, tax_rate, total_amount, status, payment_id,"
+          + " due_date, created_at, updated_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String INSERT_REVENUE =
+      "INSERT INTO revenue_recognition (invoice_id, invoice_number, order_id, order_number,"
+          + " amount, recognition_date, recognition_type, status, notes, created_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void insertInvoices(List<Invoice> invoices) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(
+        INSERT_INVOICE,
+        invoices,
+        invoices.size(),
+        (ps, invoice) -> {
+          ps.setString(1, invoice.getInvoiceNumber());
+          ps.setLong(2, invoice.getOrderId());
+          ps.setString(3, invoice.getOrderNumber());
+          ps.setObject(4, invoice.getUserId());
+          ps.setString(5, invoice.getCustomerName());
+          ps.setString(6, invoice.getCustomerEmail());
+          ps.setBigDecimal(7, invoice.getSubtotal());
+          ps.setBigDecimal(8, invoice.getTaxAmount());
+          ps.setBigDecimal(9, invoice.getTaxRate());
+          ps.setBigDecimal(10, invoice.getTotalAmount());
+          ps.setString(11, invoice.getStatus().name());
+          ps.setString(12, invoice.getPaymentId());
+          ps.setTimestamp(13, Timestamp.valueOf(invoice.getDueDate()));
+          ps.setTimestamp(14, now);
+          ps.setTimestamp(15, now);
+        });
+  }
+
+  public void insertRevenueRecognitions(List<RevenueRecognition> recognitions) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(
+        INSERT_REVENUE,
+        recognitions,
+        recognitions.size(),
+        (ps, recognition) -> {
+          ps.setLong(1, recognition.getInvoiceId());
+          ps.setString(2, recognition.getInvoiceNumber());
+          ps.setLong(3, recognition.getOrderId());
+          ps.setString(4, recognition.getOrderNumber());
+          ps.setBigDecimal(5, recognition.getAmount());
+          ps.setTimestamp(6, Timestamp.valueOf(recognition.getRecognitionDate()));
+          ps.setString(7, recognition.getType().name());
+          ps.setString(8, recognition.getStatus().name());
+          ps.setString(9, recognition.getNotes());
+          ps.setTimestamp(10, now);
+        });
+  }
+}
@@ -0,0 +1,45 @@
+package com.supplyboost.accounting.repository;
+
+import com.supplyboost.accounting.config.AccountingConfig;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Range reads for exports. Rows are handed to the callback as the driver fetches them, {@code
+ * fetch-size} at a time; PostgreSQL only uses a server-side cursor inside a transaction, so callers
+ * must hold one.
+ */
+@Repository
+public class AccountingExportRepository {
+
+  private static final String INVOICES =
+      "SELECT id, invoice_number, order_id, order_number, user_id, customer_name, customer_email,"
+          + " subtotal, tax_amount, tax_rate, total_amount, status, shipment_number, payment_id,"
+          + " due_date, paid_at, created_at"
+          + " FROM invoices WHERE created_at >= ? AND created_at < ? ORDER BY created_at, id";
+
+  private static final String REVENUE =
+      "SELECT id, invoice_id, invoice_number, order_id, order_number, amount, recognition_date,"
+          + " recognition_type, status, notes, created_at"
+          + " FROM revenue_recognition WHERE recognition_date >= ? AND recognition_date < ?"
+          + " ORDER BY recognition_date, id";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public AccountingExportRepository(DataSource dataSource, AccountingConfig accountingConfig) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.setFetchSize(accountingConfig.getExport().getFetchSize());
+  }
+
+  public void streamInvoices(LocalDateTime from, LocalDateTime to, RowCallbackHandler handler) {
+    jdbcTemplate.query(INVOICES, handler, Timestamp.valueOf(from), Timestamp.valueOf(to));
+  }
+
+  public void streamRevenue(LocalDateTime from, LocalDateTime to, RowCallbackHandler handler) {
+    jdbcTemplate.query(REVENUE, handler, Timestamp.valueOf(from), Timestamp.valueOf(to));
+  }
+}
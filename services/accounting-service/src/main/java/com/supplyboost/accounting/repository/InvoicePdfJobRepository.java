@@ -0,0 +1,64 @@
+package com.supplyboost.accounting.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/** Render queue over {@code invoices}: a row with {@code pdf_requested_at} set awaits its PDF. */
+@Repository
+@RequiredArgsConstructor
+public class InvoicePdfJobRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Leases up to {@code limit} due renders by pushing {@code pdf_requested_at} to {@code
+   * leaseUntil}, so a render whose worker dies comes back once the lease runs out. {@code SKIP
+   * LOCKED} keeps instances from claiming the same invoice.
+   */
+  public List<Long> claimDue(int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+    return jdbcTemplate.queryForList(
+        "UPDATE invoices SET pdf_requested_at = ? WHERE id IN ("
+            + " SELECT id FROM invoices WHERE pdf_requested_at <= ?"
+            + " ORDER BY pdf_requested_at LIMIT ? FOR UPDATE SKIP LOCKED)"
+            + " RETURNING id",
+        Long.class,
+        Timestamp.valueOf(leaseUntil),
+        Timestamp.valueOf(now),
+        limit);
+  }
+
+  public void complete(long invoiceId, String pdfFilePath) {
+    jdbcTemplate.update(
+        "UPDATE invoices SET pdf_file_path = ?, pdf_requested_at = NULL, updated_at = ?"
+            + " WHERE id = ?",
+        pdfFilePath,
+        Timestamp.valueOf(LocalDateTime.now()),
+        invoiceId);
+  }
+
+  public void reschedule(long invoiceId, int attempts, LocalDateTime nextAttemptAt) {
+    jdbcTemplate.update(
+        "UPDATE invoices SET pdf_attempts = ?, pdf_requested_at = ? WHERE id = ?",
+        attempts,
+        Timestamp.valueOf(nextAttemptAt),
+        invoiceId);
+  }
+
+  public void abandon(long invoiceId, int attempts) {
+    jdbcTemplate.update(
+        "UPDATE invoices SET pdf_attempts = ?, pdf_requested_at = NULL WHERE id = ?",
+        attempts,
+        invoiceId);
+  }
+
+  public long countQueued() {
+    Long count =
+        jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM invoices WHERE pdf_requested_at IS NOT NULL", Long.class);
+    return count != null ? count : 0;
+  }
+}
@@ -3,9 +3,12 @@ package com.supplyboost.accounting.repository;
 import com.supplyboost.accounting.model.Invoice;
 import com.supplyboost.accounting.model.InvoiceStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,6 +18,8 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
 
   Optional<Invoice> findByOrderId(Long orderId);
 
+  List<Invoice> findByOrderIdIn(Collection<Long> orderIds);
+
   Optional<Invoice> findByOrderNumber(String orderNumber);
 
   List<Invoice> findByCustomerEmail(String customerEmail);
@@ -25,5 +30,10 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
 
   List<Invoice> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
-  boolean existsByOrderId(Long orderId);
+  /** One page of invoices created in {@code [from, to)}, continuing after {@code afterId}. */
+  @Query(
+      "SELECT i FROM Invoice i WHERE i.createdAt >= :from AND i.createdAt < :to AND i.id > :afterId"
+          + " ORDER BY i.id")
+  List<Invoice> findCreatedBetweenAfter(
+      LocalDateTime from, LocalDateTime to, Long afterId, Limit limit);
 }
@@ -0,0 +1,96 @@
+package com.supplyboost.accounting.repository;
+
+import com.supplyboost.accounting.model.RevenueStatus;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Hourly and daily revenue totals by type and status. Statement triggers on {@code
+ * revenue_recognition} (changeset 007) keep them in step with every insert, update and delete in
+ * the writing transaction, whichever code path or service version issued it. {@code TRUNCATE}
+ * bypasses them.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RevenueRollupRepository {
+
+  // Whole days, then whole hours on either side of them, then raw rows in the partial hours at
+  // each end of the range
+  private static final String SUM_RANGE =
+      "SELECT COALESCE(SUM(amount), 0) FROM ("
+          + " SELECT amount FROM revenue_rollup WHERE status = ? AND granularity = 'DAY'"
+          + " AND bucket_start >= ? AND bucket_start < ?"
+          + " UNION ALL"
+          + " SELECT amount FROM revenue_rollup WHERE status = ? AND granularity = 'HOUR'"
+          + " AND ((bucket_start >= ? AND bucket_start < ?) OR (bucket_start >= ? AND bucket_start < ?))"
+          + " UNION ALL"
+          + " SELECT amount FROM revenue_recognition WHERE status = ?"
+          + " AND ((recognition_date >= ? AND recognition_date < ?)"
+          + " OR (recognition_date >= ? AND recognition_date <= ?))"
+          + ") buckets";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** Sum of amounts with the given status recognized in {@code [start, end]}. */
+  public BigDecimal sum(RevenueStatus status, LocalDateTime start, LocalDateTime end) {
+    if (end.isBefore(start)) {
+      return BigDecimal.ZERO;
+    }
+    RangePlan plan = RangePlan.of(start, end);
+    return jdbcTemplate.queryForObject(
+        SUM_RANGE,
+        BigDecimal.class,
+        status.name(),
+        Timestamp.valueOf(plan.getDayFrom()),
+        Timestamp.valueOf(plan.getDayTo()),
+        status.name(),
+        Timestamp.valueOf(plan.getHourFrom()),
+        Timestamp.valueOf(plan.getDayFrom()),
+        Timestamp.valueOf(plan.getDayTo()),
+        Timestamp.valueOf(plan.getHourTo()),
+        status.name(),
+        Timestamp.valueOf(start),
+        Timestamp.valueOf(plan.getHourFrom()),
+        Timestamp.valueOf(plan.getHourTo()),
+        Timestamp.valueOf(end));
+  }
+
+  /**
+   * Splits {@code [start, end]} into raw rows in {@code [start, hourFrom)}, whole hours in {@code
+   * [hourFrom, dayFrom)}, whole days in {@code [dayFrom, dayTo)}, whole hours in {@code [dayTo,
+   * hourTo)} and raw rows in {@code [hourTo, end]}. Empty pieces have equal bounds.
+   */
+  @Value
+  static class RangePlan {
+    LocalDateTime hourFrom;
+    LocalDateTime dayFrom;
+    LocalDateTime dayTo;
+    LocalDateTime hourTo;
+
+    static RangePlan of(LocalDateTime start, LocalDateTime end) {
+      LocalDateTime hourFrom = ceil(start, ChronoUnit.HOURS);
+      LocalDateTime hourTo = end.truncatedTo(ChronoUnit.HOURS);
+      if (!hourFrom.isBefore(hourTo)) {
+        // No whole hour inside the range: scan it all
+        return new RangePlan(end, end, end, end);
+      }
+      LocalDateTime dayFrom = ceil(hourFrom, ChronoUnit.DAYS);
+      LocalDateTime dayTo = hourTo.truncatedTo(ChronoUnit.DAYS);
+      if (!dayFrom.isBefore(dayTo)) {
+        return new RangePlan(hourFrom, hourTo, hourTo, hourTo);
+      }
+      return new RangePlan(hourFrom, dayFrom, dayTo, hourTo);
+    }
+
+    private static LocalDateTime ceil(LocalDateTime time, ChronoUnit unit) {
+      LocalDateTime truncated = time.truncatedTo(unit);
+      return truncated.equals(time) ? time : truncated.plus(1, unit);
+    }
+  }
+}
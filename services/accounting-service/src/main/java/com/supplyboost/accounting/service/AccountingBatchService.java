@@ -0,0 +1,122 @@
+package com.supplyboost.accounting.service;
+
+import com.supplyboost.accounting.model.Invoice;
+import com.supplyboost.accounting.model.InvoiceStatus;
+import com.supplyboost.accounting.model.RevenueRecognition;
+import com.supplyboost.accounting.repository.AccountingBatchRepository;
+import com.supplyboost.accounting.repository.InvoiceRepository;
+import com.supplyboost.events.PaymentProcessedEvent;
+import com.supplyboost.events.ShipmentEvent;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Applies a polled batch of accounting events in one transaction: affected invoices are loaded with
+ * a single query, updates are flushed as one JDBC batch and new rows are batch-inserted.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountingBatchService {
+
+  private final InvoiceRepository invoiceRepository;
+  private final AccountingBatchRepository batchRepository;
+  private final InvoiceService invoiceService;
+  private final RevenueRecognitionService revenueRecognitionService;
+
+  @Transactional
+  public int createInvoices(List<PaymentProcessedEvent> events) {
+    Map<Long, PaymentProcessedEvent> byOrderId = new LinkedHashMap<>();
+    for (PaymentProcessedEvent event : events) {
+      // Only create invoice if payment was successful
+      if ("SUCCEEDED".equals(event.getStatus())) {
+        byOrderId.putIfAbsent(event.getOrderId(), event);
+      } else {
+        log.warn("Payment failed for order {}, no invoice created", event.getOrderNumber());
+      }
+    }
+    if (byOrderId.isEmpty()) {
+      return 0;
+    }
+
+    invoiceRepository
+        .findByOrderIdIn(byOrderId.keySet())
+        .forEach(
+            existing -> {
+              log.warn("Invoice already exists for order: {}", existing.getOrderNumber());
+              byOrderId.remove(existing.getOrderId());
+            });
+
+    List<Invoice> invoices = new ArrayList<>(byOrderId.size());
+    for (PaymentProcessedEvent event : byOrderId.values()) {
+      invoices.add(
+          invoiceService.newInvoice(
+              event.getOrderId(),
+              event.getOrderNumber(),
+              null, // userId not provided in event
+              event.getCustomerName(),
+              event.getCustomerEmail(),
+              event.getAmount(),
+              event.getPaymentNumber()));
+    }
+    batchRepository.insertInvoices(invoices);
+
+    log.info("Created {} invoices from {} payment events", invoices.size(), events.size());
+    return invoices.size();
+  }
+
+  @Transactional
+  public int settleShipments(List<ShipmentEvent> events) {
+    Map<Long, Invoice> invoicesByOrderId =
+        invoiceRepository
+            .findByOrderIdIn(events.stream().map(ShipmentEvent::getOrderId).toList())
+            .stream()
+            .collect(Collectors.toMap(Invoice::getOrderId, Function.identity()));
+
+    List<RevenueRecognition> recognitions = new ArrayList<>(events.size() * 2);
+    for (ShipmentEvent event : events) {
+      Invoice invoice = invoicesByOrderId.get(event.getOrderId());
+      if (invoice == null) {
+        log.error(
+            "Failed to process accounting for shipment: {}, invoice not found for order: {}",
+            event.getShipmentNumber(),
+            event.getOrderId());
+        continue;
+      }
+      if (invoice.getStatus() == InvoiceStatus.PAID) {
+        log.warn("Invoice {} already settled, skipping", invoice.getInvoiceNumber());
+        continue;
+      }
+
+      invoice.setShipmentId(event.getShipmentId());
+      invoice.setShipmentNumber(event.getShipmentNumber());
+      invoice.setStatus(InvoiceStatus.ISSUED);
+      // Rendered off the consumer thread by InvoicePdfWorker after commit
+      invoice.setPdfRequestedAt(LocalDateTime.now());
+
+      // Revenue is recognized when goods are shipped, tax separately
+      recognitions.add(
+          revenueRecognitionService.newRevenue(
+              invoice, "Revenue recognized on shipment: " + event.getShipmentNumber()));
+      recognitions.add(revenueRecognitionService.newTax(invoice));
+
+      // Mark invoice as paid (assuming payment already processed)
+      invoice.setStatus(InvoiceStatus.PAID);
+      invoice.setPaidAt(LocalDateTime.now());
+    }
+    revenueRecognitionService.record(recognitions);
+
+    int settled = recognitions.size() / 2;
+    log.info("Issued and settled {} invoices from {} shipment events", settled, events.size());
+    return settled;
+  }
+}
@@ -0,0 +1,80 @@
+package com.supplyboost.accounting.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.supplyboost.accounting.export.ExportFormat;
+import com.supplyboost.accounting.export.RowWriter;
+import com.supplyboost.accounting.repository.AccountingExportRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Streams invoices or revenue entries straight from a database cursor to an output stream, so an
+ * export of any size runs in constant memory.
+ */
+@Slf4j
+@Service
+public class AccountingExportService {
+
+  public enum Dataset {
+    INVOICES,
+    REVENUE
+  }
+
+  private final AccountingExportRepository exportRepository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate readOnlyTransaction;
+
+  public AccountingExportService(
+      AccountingExportRepository exportRepository,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager) {
+    this.exportRepository = exportRepository;
+    this.objectMapper = objectMapper;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+  }
+
+  /** Writes rows in {@code [from, to)} to {@code out} and returns how many were written. */
+  public long export(
+      Dataset dataset, LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream out)
+      throws IOException {
+    RowWriter writer = format.writer(out, objectMapper);
+    AtomicLong rows = new AtomicLong();
+    RowCallbackHandler handler =
+        row -> {
+          try {
+            writer.write(row);
+            rows.incrementAndGet();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+
+    try {
+      // The cursor only streams inside a transaction
+      readOnlyTransaction.executeWithoutResult(
+          status -> {
+            if (dataset == Dataset.INVOICES) {
+              exportRepository.streamInvoices(from, to, handler);
+            } else {
+              exportRepository.streamRevenue(from, to, handler);
+            }
+          });
+    } catch (UncheckedIOException e) {
+      // Usually the client went away; the transaction has been rolled back
+      throw e.getCause();
+    }
+    writer.finish();
+
+    log.info("Exported {} {} rows from {} to {} as {}", rows.get(), dataset, from, to, format);
+    return rows.get();
+  }
+}
@@ -0,0 +1,180 @@
+package com.supplyboost.accounting.service;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.properties.AreaBreakType;
+import com.supplyboost.accounting.config.AccountingConfig;
+import com.supplyboost.accounting.model.Invoice;
+import com.supplyboost.accounting.repository.InvoiceRepository;
+import com.supplyboost.accounting.storage.InvoicePdfStore;
+import com.supplyboost.accounting.storage.StoredPdf;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+/**
+ * Month-end bulk exports of every invoice created in a month, as one merged PDF or a ZIP of the
+ * individual PDFs. Invoices are read a page at a time and written straight to disk, so memory use
+ * does not grow with the month. The file appears under its final name only once complete.
+ */
+@Slf4j
+@Service
+public class InvoiceExportService {
+
+  public enum Format {
+    PDF,
+    ZIP
+  }
+
+  private final InvoiceRepository invoiceRepository;
+  private final InvoicePdfLayout layout;
+  private final InvoicePdfRenderer renderer;
+  private final InvoicePdfStore pdfStore;
+  private final AccountingConfig.PdfExportConfig config;
+  private final ExecutorService exportExecutor =
+      Executors.newSingleThreadExecutor(task -> new Thread(task, "invoice-export"));
+
+  public InvoiceExportService(
+      InvoiceRepository invoiceRepository,
+      InvoicePdfLayout layout,
+      InvoicePdfRenderer renderer,
+      InvoicePdfStore pdfStore,
+      AccountingConfig accountingConfig) {
+    this.invoiceRepository = invoiceRepository;
+    this.layout = layout;
+    this.renderer = renderer;
+    this.pdfStore = pdfStore;
+    this.config = accountingConfig.getPdfExport();
+  }
+
+  /** Queues the export and returns the file it will be written to. */
+  public Path submit(YearMonth month, Format format) {
+    Path target =
+        Path.of(config.getPath(), "invoices-" + month + "." + format.name().toLowerCase());
+    exportExecutor.execute(
+        () -> {
+          try {
+            export(month, format, target);
+          } catch (IOException | RuntimeException e) {
+            log.error("Invoice export {} failed", target, e);
+          }
+        });
+    return target;
+  }
+
+  void export(YearMonth month, Format format, Path target) throws IOException {
+    long started = System.nanoTime();
+    Files.createDirectories(target.getParent());
+    Path staged = target.resolveSibling(target.getFileName() + ".part");
+    int count;
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(staged), 1 << 16)) {
+      count = format == Format.PDF ? writeMerged(month, out) : writeZip(month, out);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(staged);
+      throw e;
+    }
+    Files.move(staged, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    log.info(
+        "Exported {} invoices for {} to {} in {}",
+        count,
+        month,
+        target,
+        Duration.ofNanos(System.nanoTime() - started));
+  }
+
+  /** One document, one set of fonts and one header XObject shared by every page. */
+  private int writeMerged(YearMonth month, OutputStream out) throws IOException {
+    PdfDocument pdf = new PdfDocument(new PdfWriter(out));
+    Document document = new Document(pdf);
+    InvoicePdfLayout.Fonts fonts = layout.fonts(pdf);
+    PdfFormXObject header = layout.header(pdf, fonts);
+    int count =
+        forEachInvoice(
+            month,
+            (invoice, index) -> {
+              if (index > 0) {
+                document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+              }
+              layout.write(document, fonts, header, invoice);
+            });
+    if (count == 0) {
+      document.add(new Paragraph("No invoices for " + month));
+    }
+    document.close();
+    return count;
+  }
+
+  /** Copies already rendered PDFs from the store and renders only the missing ones. */
+  private int writeZip(YearMonth month, OutputStream out) throws IOException {
+    try (ZipOutputStream zip = new ZipOutputStream(out)) {
+      // PDF streams are already compressed
+      zip.setLevel(Deflater.BEST_SPEED);
+      return forEachInvoice(
+          month,
+          (invoice, index) -> {
+            zip.putNextEntry(new ZipEntry(invoice.getInvoiceNumber() + ".pdf"));
+            Optional<StoredPdf> stored =
+                invoice.getPdfFilePath() == null
+                    ? Optional.empty()
+                    : pdfStore.find(invoice.getPdfFilePath());
+            if (stored.isPresent()) {
+              Files.copy(stored.get().getPath(), zip);
+            } else {
+              renderer.write(invoice, zip);
+            }
+            zip.closeEntry();
+          });
+    }
+  }
+
+  private int forEachInvoice(YearMonth month, InvoiceWriter writer) throws IOException {
+    LocalDateTime from = month.atDay(1).atStartOfDay();
+    LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+    int count = 0;
+    long afterId = 0;
+    List<Invoice> page;
+    do {
+      page =
+          invoiceRepository.findCreatedBetweenAfter(
+              from, to, afterId, Limit.of(config.getPageSize()));
+      for (Invoice invoice : page) {
+        writer.write(invoice, count++);
+      }
+      if (!page.isEmpty()) {
+        afterId = page.get(page.size() - 1).getId();
+      }
+    } while (page.size() == config.getPageSize());
+    return count;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    exportExecutor.shutdown();
+  }
+
+  @FunctionalInterface
+  private interface InvoiceWriter {
+    void write(Invoice invoice, int index) throws IOException;
+  }
+}
@@ -0,0 +1,171 @@
+package com.supplyboost.accounting.service;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.layout.Canvas;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Image;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.HorizontalAlignment;
+import com.itextpdf.layout.properties.TextAlignment;
+import com.supplyboost.accounting.config.AccountingConfig;
+import com.supplyboost.accounting.model.Invoice;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The invoice page layout. Everything that does not depend on the invoice is prepared once: font
+ * programs are parsed at startup, and the company header is drawn once per document as a form
+ * XObject that every page references, so a merged export carries a single copy of it.
+ *
+ * <p>iText binds fonts and XObjects to one {@link PdfDocument}, so those are created per document
+ * through {@link #fonts} and {@link #header}, never per invoice within it.
+ */
+@Component
+public class InvoicePdfLayout {
+
+  private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("MMM dd, yyyy");
+  private static final BigDecimal HUNDRED = new BigDecimal("100");
+  private static final float[] COLUMN_WIDTHS = {4, 1, 1, 1};
+  private static final float HEADER_HEIGHT = 60;
+
+  private final FontProgram regular;
+  private final FontProgram bold;
+  private final FontProgram italic;
+  private final String companyName;
+  private final String companyAddress;
+  private final String companyContact;
+
+  public InvoicePdfLayout(AccountingConfig accountingConfig) {
+    try {
+      this.regular = FontProgramFactory.createFont(StandardFonts.HELVETICA);
+      this.bold = FontProgramFactory.createFont(StandardFonts.HELVETICA_BOLD);
+      this.italic = FontProgramFactory.createFont(StandardFonts.HELVETICA_OBLIQUE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to load PDF fonts", e);
+    }
+    this.companyName = accountingConfig.getCompanyName();
+    this.companyAddress = accountingConfig.getCompanyAddress();
+    this.companyContact =
+        "Email: "
+            + accountingConfig.getCompanyEmail()
+            + " | Phone: "
+            + accountingConfig.getCompanyPhone();
+  }
+
+  public Fonts fonts(PdfDocument pdf) {
+    return new Fonts(
+        PdfFontFactory.createFont(regular, PdfEncodings.WINANSI),
+        PdfFontFactory.createFont(bold, PdfEncodings.WINANSI),
+        PdfFontFactory.createFont(italic, PdfEncodings.WINANSI));
+  }
+
+  /** Draws the company header into a form XObject owned by {@code pdf}. */
+  public PdfFormXObject header(PdfDocument pdf, Fonts fonts) {
+    float width = PageSize.A4.getWidth() - 72;
+    PdfFormXObject header = new PdfFormXObject(new Rectangle(width, HEADER_HEIGHT));
+    Canvas canvas = new Canvas(header, pdf);
+    canvas.add(
+        new Paragraph(companyName)
+            .setFont(fonts.getBold())
+            .setFontSize(20)
+            .setMargin(0)
+            .setTextAlignment(TextAlignment.CENTER));
+    canvas.add(
+        new Paragraph(companyAddress)
+            .setFontSize(10)
+            .setMargin(0)
+            .setTextAlignment(TextAlignment.CENTER));
+    canvas.add(
+        new Paragraph(companyContact)
+            .setFontSize(10)
+            .setMargin(0)
+            .setTextAlignment(TextAlignment.CENTER));
+    canvas.close();
+    return header;
+  }
+
+  /** Lays out one invoice from the current position of {@code document}. */
+  public void write(Document document, Fonts fonts, PdfFormXObject header, Invoice invoice) {
+    document.setFont(fonts.getRegular());
+    document.add(new Image(header).setHorizontalAlignment(HorizontalAlignment.CENTER));
+
+    document.add(new Paragraph("\n"));
+
+    // Invoice details
+    document.add(
+        new Paragraph("INVOICE")
+            .setFont(fonts.getBold())
+            .setFontSize(16)
+            .setTextAlignment(TextAlignment.CENTER));
+    document.add(new Paragraph("\n"));
+
+    document.add(new Paragraph("Invoice Number: " + invoice.getInvoiceNumber()));
+    document.add(new Paragraph("Invoice Date: " + invoice.getCreatedAt().format(DATE)));
+    document.add(new Paragraph("Due Date: " + invoice.getDueDate().format(DATE)));
+    document.add(new Paragraph("Order Number: " + invoice.getOrderNumber()));
+
+    document.add(new Paragraph("\n"));
+
+    // Bill to
+    document.add(new Paragraph("Bill To:").setFont(fonts.getBold()));
+    document.add(new Paragraph(invoice.getCustomerName()));
+    document.add(new Paragraph(invoice.getCustomerEmail()));
+
+    document.add(new Paragraph("\n"));
+
+    // Invoice items table
+    Table table = new Table(COLUMN_WIDTHS);
+    table.setWidth(500);
+    table.addCell("Description");
+    table.addCell("Quantity");
+    table.addCell("Price");
+    table.addCell("Amount");
+    table.addCell("Order: " + invoice.getOrderNumber());
+    table.addCell("1");
+    table.addCell("$" + invoice.getSubtotal());
+    table.addCell("$" + invoice.getSubtotal());
+
+    document.add(table);
+    document.add(new Paragraph("\n"));
+
+    // Totals
+    document.add(
+        new Paragraph("Subtotal: $" + invoice.getSubtotal()).setTextAlignment(TextAlignment.RIGHT));
+    document.add(
+        new Paragraph(
+                "Tax (" + invoice.getTaxRate().multiply(HUNDRED) + "%): $" + invoice.getTaxAmount())
+            .setTextAlignment(TextAlignment.RIGHT));
+    document.add(
+        new Paragraph("Total: $" + invoice.getTotalAmount())
+            .setFont(fonts.getBold())
+            .setTextAlignment(TextAlignment.RIGHT));
+
+    document.add(new Paragraph("\n\n"));
+    document.add(
+        new Paragraph("Thank you for your business!")
+            .setFont(fonts.getItalic())
+            .setTextAlignment(TextAlignment.CENTER));
+  }
+
+  /** Fonts bound to one document. */
+  @Value
+  public static class Fonts {
+    PdfFont regular;
+    PdfFont bold;
+    PdfFont italic;
+  }
+}
@@ -0,0 +1,84 @@
+package com.supplyboost.accounting.service;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfDocumentInfo;
+import com.itextpdf.kernel.pdf.PdfString;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.WriterProperties;
+import com.itextpdf.layout.Document;
+import com.supplyboost.accounting.model.Invoice;
+import com.supplyboost.accounting.storage.InvoicePdfStore;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lays out an invoice as a PDF. Does no database work, so it is safe to run off-transaction.
+ *
+ * <p>Renders are byte-for-byte reproducible, which lets the content-addressed store deduplicate
+ * them. The document dates come from the invoice and the document ID from its number, where iText
+ * would otherwise use the clock and a random ID.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvoicePdfRenderer {
+
+  private static final DateTimeFormatter PDF_DATE =
+      DateTimeFormatter.ofPattern("'D:'yyyyMMddHHmmss");
+
+  private final InvoicePdfLayout layout;
+  private final InvoicePdfStore pdfStore;
+
+  /** Renders the invoice into the PDF store and returns its storage key. */
+  public String render(Invoice invoice) {
+    try {
+      String key = pdfStore.store(out -> write(invoice, out));
+      log.info("PDF generated successfully: {} -> {}", invoice.getInvoiceNumber(), key);
+      return key;
+    } catch (Exception e) {
+      log.error("Failed to generate PDF for invoice: {}", invoice.getInvoiceNumber(), e);
+      throw new RuntimeException("Failed to generate PDF", e);
+    }
+  }
+
+  /** Writes a standalone PDF for one invoice to {@code out}, leaving the stream open. */
+  public void write(Invoice invoice, OutputStream out) {
+    PdfString documentId = documentId(invoice);
+    PdfWriter writer =
+        new PdfWriter(
+            out,
+            new WriterProperties()
+                .setInitialDocumentId(documentId)
+                .setModifiedDocumentId(documentId));
+    writer.setCloseStream(false);
+    PdfDocument pdf = new PdfDocument(writer);
+    PdfDocumentInfo info = pdf.getDocumentInfo();
+    String date = PDF_DATE.format(invoice.getCreatedAt());
+    info.setMoreInfo("CreationDate", date);
+    info.setMoreInfo("ModDate", date);
+    Document document = new Document(pdf);
+    InvoicePdfLayout.Fonts fonts = layout.fonts(pdf);
+    layout.write(document, fonts, layout.header(pdf, fonts), invoice);
+    document.close();
+  }
+
+  private static PdfString documentId(Invoice invoice) {
+    try {
+      byte[] hash =
+          MessageDigest.getInstance("SHA-256")
+              .digest(invoice.getInvoiceNumber().getBytes(StandardCharsets.UTF_8));
+      PdfString id = new PdfString(Arrays.copyOf(hash, 16));
+      id.setHexWriting(true);
+      return id;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
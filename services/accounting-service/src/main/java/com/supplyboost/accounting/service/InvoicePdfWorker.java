@@ -0,0 +1,127 @@
+package com.supplyboost.accounting.service;
+
+import com.supplyboost.accounting.config.AccountingConfig;
+import com.supplyboost.accounting.model.Invoice;
+import com.supplyboost.accounting.repository.InvoicePdfJobRepository;
+import com.supplyboost.accounting.repository.InvoiceRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders queued invoice PDFs on a bounded pool, outside any transaction, and records the file path
+ * when done. Failed renders are retried with exponential back-off.
+ *
+ * <p>Renders are timed as {@code accounting.invoice.pdf.render} (tagged {@code outcome}); {@code
+ * accounting.invoice.pdf.queue} reports queued renders as of the last poll.
+ */
+@Slf4j
+@Component
+public class InvoicePdfWorker {
+
+  private final InvoicePdfJobRepository jobRepository;
+  private final InvoiceRepository invoiceRepository;
+  private final InvoicePdfRenderer renderer;
+  private final AccountingConfig.PdfRenderConfig config;
+  private final MeterRegistry meterRegistry;
+  private final ExecutorService renderExecutor;
+  private final AtomicLong queued = new AtomicLong();
+
+  public InvoicePdfWorker(
+      InvoicePdfJobRepository jobRepository,
+      InvoiceRepository invoiceRepository,
+      InvoicePdfRenderer renderer,
+      AccountingConfig accountingConfig,
+      MeterRegistry meterRegistry) {
+    this.jobRepository = jobRepository;
+    this.invoiceRepository = invoiceRepository;
+    this.renderer = renderer;
+    this.config = accountingConfig.getPdfRender();
+    this.meterRegistry = meterRegistry;
+    AtomicInteger threads = new AtomicInteger();
+    this.renderExecutor =
+        Executors.newFixedThreadPool(
+            config.getWorkers(),
+            task -> new Thread(task, "invoice-pdf-" + threads.incrementAndGet()));
+    Gauge.builder("accounting.invoice.pdf.queue", queued, AtomicLong::get).register(meterRegistry);
+  }
+
+  @Scheduled(
+      fixedDelayString = "${accounting.invoice.pdf-render.poll-interval:PT2S}",
+      initialDelayString = "${accounting.invoice.pdf-render.poll-interval:PT2S}")
+  public void poll() {
+    queued.set(jobRepository.countQueued());
+    LocalDateTime now = LocalDateTime.now();
+    List<Long> ids =
+        jobRepository.claimDue(config.getBatchSize(), now, now.plus(config.getLease()));
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    // Each worker renders a contiguous run of the batch rather than one task per invoice
+    List<Invoice> invoices = invoiceRepository.findAllById(ids);
+    int chunk = (invoices.size() + config.getWorkers() - 1) / config.getWorkers();
+    CompletableFuture.allOf(
+            IntStream.iterate(0, from -> from < invoices.size(), from -> from + chunk)
+                .mapToObj(from -> invoices.subList(from, Math.min(from + chunk, invoices.size())))
+                .map(
+                    run ->
+                        CompletableFuture.runAsync(() -> run.forEach(this::render), renderExecutor))
+                .toArray(CompletableFuture[]::new))
+        .join();
+    log.debug("Rendered {} queued invoice PDFs", invoices.size());
+  }
+
+  private void render(Invoice invoice) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "success";
+    try {
+      jobRepository.complete(invoice.getId(), renderer.render(invoice));
+    } catch (RuntimeException e) {
+      outcome = "failure";
+      int attempts = invoice.getPdfAttempts() + 1;
+      if (attempts >= config.getMaxAttempts()) {
+        jobRepository.abandon(invoice.getId(), attempts);
+        log.error(
+            "Giving up on PDF for invoice {} after {} attempts",
+            invoice.getInvoiceNumber(),
+            attempts,
+            e);
+        return;
+      }
+      Duration delay = backoff(attempts);
+      jobRepository.reschedule(invoice.getId(), attempts, LocalDateTime.now().plus(delay));
+      log.warn(
+          "PDF render {} for invoice {} failed, retrying in {}: {}",
+          attempts,
+          invoice.getInvoiceNumber(),
+          delay,
+          e.toString());
+    } finally {
+      sample.stop(meterRegistry.timer("accounting.invoice.pdf.render", "outcome", outcome));
+    }
+  }
+
+  Duration backoff(int attempts) {
+    Duration delay = config.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 30));
+    return delay.compareTo(config.getMaxBackoff()) > 0 ? config.getMaxBackoff() : delay;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    renderExecutor.shutdown();
+  }
+}
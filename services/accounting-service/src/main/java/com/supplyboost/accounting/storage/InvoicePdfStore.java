@@ -0,0 +1,22 @@
+package com.supplyboost.accounting.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * Stores rendered invoice PDFs under keys derived from their content. The key is what goes into
+ * {@code invoices.pdf_file_path}; identical renders share one stored file.
+ */
+public interface InvoicePdfStore {
+
+  /** Streams a PDF into the store and returns its key. Nothing is visible until fully written. */
+  String store(PdfContent content) throws IOException;
+
+  Optional<StoredPdf> find(String key);
+
+  @FunctionalInterface
+  interface PdfContent {
+    void writeTo(OutputStream out) throws IOException;
+  }
+}
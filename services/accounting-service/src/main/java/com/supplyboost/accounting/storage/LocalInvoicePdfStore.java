@@ -0,0 +1,98 @@
+package com.supplyboost.accounting.storage;
+
+import com.supplyboost.accounting.config.AccountingConfig;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps PDFs under {@code pdf-storage-path} as {@code ab/cd/<sha-256>.pdf}, so no directory grows
+ * past a few hundred entries. Files are written to {@code .tmp}, synced, and renamed into place
+ * atomically, so readers never see a partial file.
+ */
+@Slf4j
+@Component
+public class LocalInvoicePdfStore implements InvoicePdfStore {
+
+  private static final Pattern CONTENT_KEY = Pattern.compile("[0-9a-f]{64}\\.pdf");
+
+  private final Path root;
+  private final Path tmp;
+
+  public LocalInvoicePdfStore(AccountingConfig accountingConfig) {
+    this.root = Path.of(accountingConfig.getPdfStoragePath()).toAbsolutePath().normalize();
+    this.tmp = root.resolve(".tmp");
+  }
+
+  @Override
+  public String store(PdfContent content) throws IOException {
+    Files.createDirectories(tmp);
+    Path staged = tmp.resolve(UUID.randomUUID() + ".pdf");
+    try {
+      MessageDigest digest = sha256();
+      try (FileChannel channel =
+              FileChannel.open(staged, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+          OutputStream out = new DigestOutputStream(Channels.newOutputStream(channel), digest)) {
+        content.writeTo(out);
+        out.flush();
+        channel.force(true);
+      }
+
+      String hash = HexFormat.of().formatHex(digest.digest());
+      String key = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + ".pdf";
+      Path target = root.resolve(key);
+      if (Files.exists(target)) {
+        log.debug("PDF {} already stored", key);
+        return key;
+      }
+      Files.createDirectories(target.getParent());
+      Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE);
+      return key;
+    } finally {
+      Files.deleteIfExists(staged);
+    }
+  }
+
+  @Override
+  public Optional<StoredPdf> find(String key) {
+    // Absolute keys are paths written before the store existed
+    Path path = root.resolve(key).normalize();
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      String fileName = path.getFileName().toString();
+      String etag =
+          CONTENT_KEY.matcher(fileName).matches()
+              ? fileName.substring(0, 64)
+              : attributes.size() + "-" + attributes.lastModifiedTime().toMillis();
+      return Optional.of(
+          new StoredPdf(
+              key, path, attributes.size(), attributes.lastModifiedTime().toInstant(), etag));
+    } catch (IOException e) {
+      log.warn("Stored PDF {} is not readable: {}", key, e.toString());
+      return Optional.empty();
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.supplyboost.accounting.storage;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import lombok.Value;
+
+@Value
+public class StoredPdf {
+  String key;
+  Path path;
+  long size;
+  Instant lastModified;
+
+  /** Content hash for content-addressed files, otherwise size and modification time. */
+  String etag;
+}
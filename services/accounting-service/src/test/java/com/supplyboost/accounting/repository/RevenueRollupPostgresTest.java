@@ -0,0 +1,165 @@
+package com.supplyboost.accounting.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.supplyboost.accounting.model.RevenueRecognition;
+import com.supplyboost.accounting.model.RevenueRecognitionType;
+import com.supplyboost.accounting.model.RevenueStatus;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/** Runs the real changelog, so the rollup triggers are exercised. Skipped without Docker. */
+@Testcontainers(disabledWithoutDocker = true)
+class RevenueRollupPostgresTest {
+
+  private static final String RAW_SUM =
+      "SELECT COALESCE(SUM(amount), 0) FROM revenue_recognition"
+          + " WHERE status = ? AND recognition_date BETWEEN ? AND ?";
+
+  /** Entries sit on and next to hour and day boundaries. */
+  private static final List<LocalDateTime> RECOGNIZED_AT =
+      List.of(
+          LocalDateTime.of(2024, 2, 29, 23, 30),
+          LocalDateTime.of(2024, 3, 1, 0, 0),
+          LocalDateTime.of(2024, 3, 1, 9, 59, 59),
+          LocalDateTime.of(2024, 3, 1, 10, 0),
+          LocalDateTime.of(2024, 3, 1, 10, 30),
+          LocalDateTime.of(2024, 3, 1, 23, 59, 59),
+          LocalDateTime.of(2024, 3, 2, 0, 0),
+          LocalDateTime.of(2024, 3, 2, 12, 0),
+          LocalDateTime.of(2024, 3, 3, 5, 15),
+          LocalDateTime.of(2024, 3, 4, 0, 0));
+
+  private static final List<LocalDateTime> RANGE_BOUNDS =
+      List.of(
+          LocalDateTime.of(2024, 2, 29, 23, 0),
+          LocalDateTime.of(2024, 3, 1, 0, 0),
+          LocalDateTime.of(2024, 3, 1, 10, 0),
+          LocalDateTime.of(2024, 3, 1, 10, 15),
+          LocalDateTime.of(2024, 3, 1, 10, 30),
+          LocalDateTime.of(2024, 3, 2, 0, 0),
+          LocalDateTime.of(2024, 3, 2, 12, 0),
+          LocalDateTime.of(2024, 3, 3, 5, 15),
+          LocalDateTime.of(2024, 3, 4, 0, 0),
+          LocalDateTime.of(2024, 3, 4, 1, 0));
+
+  @Container
+  static final PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+          .withDatabaseName("accounting_db_test")
+          .withUsername("test")
+          .withPassword("test");
+
+  private static JdbcTemplate jdbcTemplate;
+
+  private AccountingBatchRepository batchRepository;
+  private RevenueRollupRepository rollupRepository;
+
+  @BeforeAll
+  static void migrate() throws Exception {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    SpringLiquibase liquibase = new SpringLiquibase();
+    liquibase.setDataSource(dataSource);
+    liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+    liquibase.setResourceLoader(new DefaultResourceLoader());
+    liquibase.afterPropertiesSet();
+    jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.execute("TRUNCATE revenue_recognition, revenue_rollup");
+    batchRepository = new AccountingBatchRepository(jdbcTemplate);
+    rollupRepository = new RevenueRollupRepository(jdbcTemplate);
+  }
+
+  @Test
+  void sum_ShouldMatchRawSumForEveryRange() {
+    // Arrange
+    List<RevenueRecognition> recognitions = new ArrayList<>();
+    for (int i = 0; i < RECOGNIZED_AT.size(); i++) {
+      recognitions.add(recognition(RECOGNIZED_AT.get(i), new BigDecimal(100 + i)));
+    }
+    batchRepository.insertRevenueRecognitions(recognitions);
+
+    // Act & Assert
+    assertMatchesRawSum(RevenueStatus.RECOGNIZED);
+  }
+
+  @Test
+  void sum_ShouldFollowWritesThatBypassTheService() {
+    // Arrange
+    batchRepository.insertRevenueRecognitions(
+        RECOGNIZED_AT.stream().map(at -> recognition(at, new BigDecimal("25.50"))).toList());
+
+    // Act
+    jdbcTemplate.update(
+        "INSERT INTO revenue_recognition (invoice_id, invoice_number, order_id, order_number,"
+            + " amount, recognition_date, recognition_type, status, created_at)"
+            + " VALUES (1, 'INV-X', 1, 'ORD-X', 40.00, ?, 'PRODUCT_SALE', 'RECOGNIZED', now())",
+        Timestamp.valueOf(LocalDateTime.of(2024, 3, 2, 12, 0)));
+    jdbcTemplate.update(
+        "UPDATE revenue_recognition SET status = 'REVERSED' WHERE recognition_date = ?",
+        Timestamp.valueOf(LocalDateTime.of(2024, 3, 1, 10, 0)));
+    jdbcTemplate.update(
+        "UPDATE revenue_recognition SET recognition_date = ? WHERE recognition_date = ?",
+        Timestamp.valueOf(LocalDateTime.of(2024, 3, 3, 23, 0)),
+        Timestamp.valueOf(LocalDateTime.of(2024, 3, 1, 23, 59, 59)));
+    jdbcTemplate.update(
+        "DELETE FROM revenue_recognition WHERE recognition_date = ?",
+        Timestamp.valueOf(LocalDateTime.of(2024, 3, 3, 5, 15)));
+
+    // Assert
+    assertMatchesRawSum(RevenueStatus.RECOGNIZED);
+    assertMatchesRawSum(RevenueStatus.REVERSED);
+  }
+
+  private void assertMatchesRawSum(RevenueStatus status) {
+    for (LocalDateTime start : RANGE_BOUNDS) {
+      for (LocalDateTime end : RANGE_BOUNDS) {
+        if (end.isBefore(start)) {
+          continue;
+        }
+        BigDecimal raw =
+            jdbcTemplate.queryForObject(
+                RAW_SUM,
+                BigDecimal.class,
+                status.name(),
+                Timestamp.valueOf(start),
+                Timestamp.valueOf(end));
+        BigDecimal rolledUp = rollupRepository.sum(status, start, end);
+        assertEquals(
+            0, raw.compareTo(rolledUp), status + " " + start + " to " + end + ": " + rolledUp);
+      }
+    }
+  }
+
+  private static RevenueRecognition recognition(LocalDateTime recognizedAt, BigDecimal amount) {
+    return RevenueRecognition.builder()
+        .invoiceId(1L)
+        .invoiceNumber("INV-1")
+        .orderId(1L)
+        .orderNumber("ORD-1")
+        .amount(amount)
+        .recognitionDate(recognizedAt)
+        .type(RevenueRecognitionType.PRODUCT_SALE)
+        .status(RevenueStatus.RECOGNIZED)
+        .build();
+  }
+}
@@ -0,0 +1,83 @@
+package com.supplyboost.accounting.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.supplyboost.accounting.repository.RevenueRollupRepository.RangePlan;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class RevenueRollupRepositoryTest {
+
+  @Test
+  void rangePlan_ShouldScanRawRowsWhenNoWholeHourFits() {
+    // Arrange
+    LocalDateTime start = LocalDateTime.of(2024, 3, 1, 10, 30);
+    LocalDateTime end = LocalDateTime.of(2024, 3, 1, 11, 15);
+
+    // Act
+    RangePlan plan = RangePlan.of(start, end);
+
+    // Assert
+    assertEquals(new RangePlan(end, end, end, end), plan);
+  }
+
+  @Test
+  void rangePlan_ShouldUseHoursOnlyWithinOneDay() {
+    // Arrange
+    LocalDateTime start = LocalDateTime.of(2024, 3, 1, 10, 15);
+    LocalDateTime end = LocalDateTime.of(2024, 3, 1, 14, 30);
+
+    // Act
+    RangePlan plan = RangePlan.of(start, end);
+
+    // Assert
+    LocalDateTime fourteen = LocalDateTime.of(2024, 3, 1, 14, 0);
+    assertEquals(
+        new RangePlan(LocalDateTime.of(2024, 3, 1, 11, 0), fourteen, fourteen, fourteen), plan);
+  }
+
+  @Test
+  void rangePlan_ShouldUseHoursOnlyAcrossMidnightWithoutWholeDay() {
+    // Arrange
+    LocalDateTime start = LocalDateTime.of(2024, 3, 1, 22, 0);
+    LocalDateTime end = LocalDateTime.of(2024, 3, 2, 3, 0);
+
+    // Act
+    RangePlan plan = RangePlan.of(start, end);
+
+    // Assert
+    assertEquals(new RangePlan(start, end, end, end), plan);
+  }
+
+  @Test
+  void rangePlan_ShouldKeepRawRowsAtExactBoundaryEnd() {
+    // Arrange
+    LocalDateTime start = LocalDateTime.of(2024, 3, 1, 0, 0);
+    LocalDateTime end = LocalDateTime.of(2024, 3, 3, 0, 0);
+
+    // Act
+    RangePlan plan = RangePlan.of(start, end);
+
+    // Assert: whole days up to end, then [end, end] picks up entries recognized exactly at end
+    assertEquals(new RangePlan(start, start, end, end), plan);
+  }
+
+  @Test
+  void rangePlan_ShouldSplitPartialHoursWholeHoursAndDays() {
+    // Arrange
+    LocalDateTime start = LocalDateTime.of(2024, 2, 29, 22, 30);
+    LocalDateTime end = LocalDateTime.of(2024, 3, 4, 1, 30);
+
+    // Act
+    RangePlan plan = RangePlan.of(start, end);
+
+    // Assert
+    assertEquals(
+        new RangePlan(
+            LocalDateTime.of(2024, 2, 29, 23, 0),
+            LocalDateTime.of(2024, 3, 1, 0, 0),
+            LocalDateTime.of(2024, 3, 4, 0, 0),
+            LocalDateTime.of(2024, 3, 4, 1, 0)),
+        plan);
+  }
+}
@@ -3,10 +3,10 @@ package com.supplyboost.notification;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.kafka.annotation.EnableKafka;
-import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableKafka
-@EnableAsync
+@EnableScheduling
 @SpringBootApplication
 public class NotificationServiceApplication {
 
@@ -1,5 +1,6 @@
 package com.supplyboost.notification.config;
 
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -15,10 +16,56 @@ public class EmailConfig {
   private boolean mockMode = true;
   private boolean async = true;
   private RetryConfig retry = new RetryConfig();
+  private QueueConfig queue = new QueueConfig();
+  private PoolConfig pool = new PoolConfig();
+  private DigestConfig digest = new DigestConfig();
 
   @Data
   public static class RetryConfig {
-    private int maxAttempts = 3;
-    private long delay = 2000;
+    /** Send attempts, including the first, before a notification is marked FAILED. */
+    private int maxAttempts = 5;
+
+    private Duration initialDelay = Duration.ofSeconds(30);
+    private Duration maxDelay = Duration.ofMinutes(30);
+  }
+
+  @Data
+  public static class QueueConfig {
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /** Queued notifications claimed per poll. */
+    private int batchSize = 50;
+
+    /** SMTP sends in flight at once on this instance. */
+    private int smtpConcurrency = 4;
+
+    /** How long a claimed notification stays hidden from other workers. */
+    private Duration lease = Duration.ofMinutes(5);
+  }
+
+  @Data
+  public static class PoolConfig {
+    /** Open SMTP connections; sends beyond this wait for a free one. */
+    private int maxConnections = 4;
+
+    /** Messages sent over one connection before it is closed and replaced. */
+    private int maxMessagesPerConnection = 100;
+
+    /** Idle connections older than this are closed rather than reused. */
+    private Duration idleTimeout = Duration.ofSeconds(30);
+
+    private Duration borrowTimeout = Duration.ofSeconds(30);
+  }
+
+  @Data
+  public static class DigestConfig {
+    /** Merge notifications for the same recipient and order that arrive within the window. */
+    private boolean enabled = false;
+
+    private Duration window = Duration.ofSeconds(60);
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /** Open windows tracked in memory; notifications beyond this are sent on their own. */
+    private int maxOpenWindows = 10_000;
   }
 }
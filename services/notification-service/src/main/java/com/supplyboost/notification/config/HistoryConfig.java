@@ -0,0 +1,22 @@
+package com.supplyboost.notification.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "notification.history")
+public class HistoryConfig {
+
+  /** Monthly partitions kept ready beyond the current month. */
+  private int premakeMonths = 3;
+
+  /** Full months kept in the database before the current one; older partitions are dropped. */
+  private int retentionMonths = 12;
+
+  /** Write each expired partition to a gzipped CSV before dropping it. */
+  private boolean archiveEnabled = true;
+
+  private String archivePath = "/tmp/notification-archive";
+}
@@ -0,0 +1,18 @@
+package com.supplyboost.notification.config;
+
+import com.supplyboost.notification.mail.PooledMailTransport;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+@Configuration
+public class MailTransportConfig {
+
+  /** Reuses the session and connection settings of Boot's {@code spring.mail.*} sender. */
+  @Bean
+  public PooledMailTransport pooledMailTransport(
+      JavaMailSenderImpl mailSender, EmailConfig emailConfig, MeterRegistry meterRegistry) {
+    return new PooledMailTransport(mailSender, emailConfig.getPool(), meterRegistry);
+  }
+}
@@ -1,6 +1,7 @@
 package com.supplyboost.notification.consumer;
 
-import com.supplyboost.notification.event.OrderCreatedEvent;
+import com.supplyboost.events.OrderCreatedEvent;
+import com.supplyboost.events.serde.EventSerdeConfig;
 import com.supplyboost.notification.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,24 +15,22 @@ public class OrderEventConsumer {
 
   private final EmailService emailService;
 
-  @KafkaListener(topics = "order.created", groupId = "notification-service-group")
+  @KafkaListener(
+      topics = "order.created",
+      groupId = "notification-service-group",
+      properties = EventSerdeConfig.VALUE_TYPE + "=com.supplyboost.events.OrderCreatedEvent")
   public void handleOrderCreated(OrderCreatedEvent event) {
     log.info("Received order created event for order: {}", event.getOrderNumber());
 
-    try {
-      emailService.sendOrderConfirmation(
-          event.getCustomerEmail(),
-          event.getCustomerName(),
-          event.getOrderNumber(),
-          event.getTotalAmount().toString(),
-          event.getStatus(),
-          event.getEventTime());
+    emailService.sendOrderConfirmation(
+        event.getCustomerEmail(),
+        event.getCustomerName(),
+        event.getOrderNumber(),
+        event.getTotalAmount().toString(),
+        event.getStatus(),
+        event.getCreatedAt());
 
-      log.info(
-          "Order confirmation email sent successfully for order: {}", event.getOrderNumber());
-
-    } catch (Exception e) {
-      log.error("Failed to send order confirmation email for order: {}", event.getOrderNumber(), e);
-    }
+    log.info(
+        "Order confirmation email sent successfully for order: {}", event.getOrderNumber());
   }
 }
@@ -1,6 +1,7 @@
 package com.supplyboost.notification.consumer;
 
-import com.supplyboost.notification.event.ShipmentCreatedEvent;
+import com.supplyboost.events.ShipmentEvent;
+import com.supplyboost.events.serde.EventSerdeConfig;
 import com.supplyboost.notification.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,29 +15,24 @@ public class ShipmentEventConsumer {
 
   private final EmailService emailService;
 
-  @KafkaListener(topics = "shipment.created", groupId = "notification-service-group")
-  public void handleShipmentCreated(ShipmentCreatedEvent event) {
+  @KafkaListener(
+      topics = "shipment.created",
+      groupId = "notification-service-group",
+      properties = EventSerdeConfig.VALUE_TYPE + "=com.supplyboost.events.ShipmentEvent")
+  public void handleShipmentCreated(ShipmentEvent event) {
     log.info("Received shipment created event for shipment: {}", event.getShipmentNumber());
 
-    try {
-      emailService.sendShipmentNotification(
-          event.getRecipientEmail(),
-          event.getRecipientName(),
-          event.getOrderNumber(),
-          event.getShipmentNumber(),
-          event.getTrackingNumber(),
-          event.getCarrier(),
-          event.getEstimatedDelivery());
+    emailService.sendShipmentNotification(
+        event.getRecipientEmail(),
+        event.getRecipientName(),
+        event.getOrderNumber(),
+        event.getShipmentNumber(),
+        event.getTrackingNumber(),
+        event.getCarrier(),
+        event.getEstimatedDelivery());
 
-      log.info(
-          "Shipment notification email sent successfully for shipment: {}",
-          event.getShipmentNumber());
-
-    } catch (Exception e) {
-      log.error(
-          "Failed to send shipment notification email for shipment: {}",
-          event.getShipmentNumber(),
-          e);
-    }
+    log.info(
+        "Shipment notification email sent successfully for shipment: {}",
+        event.getShipmentNumber());
   }
 }
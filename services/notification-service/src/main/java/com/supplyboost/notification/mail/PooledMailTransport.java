@@ -0,0 +1,157 @@
+package com.supplyboost.notification.mail;
+
+import com.supplyboost.notification.config.EmailConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * Keeps SMTP connections open between sends, so a burst of emails pays for the connect, STARTTLS
+ * and AUTH round trips once per connection instead of once per message. Connections are replaced
+ * after {@code max-messages-per-connection} sends, when idle past {@code idle-timeout}, or after
+ * any failed send.
+ *
+ * <p>Sends are timed as {@code notification.smtp.send} (tagged {@code outcome}), and connection use
+ * is counted as {@code notification.smtp.connections} (tagged {@code event=opened|reused}).
+ */
+@Slf4j
+public class PooledMailTransport implements AutoCloseable {
+
+  private final JavaMailSenderImpl mailSender;
+  private final EmailConfig.PoolConfig pool;
+  private final MeterRegistry meterRegistry;
+  private final BlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+  private final Semaphore permits;
+  private final Counter opened;
+  private final Counter reused;
+
+  public PooledMailTransport(
+      JavaMailSenderImpl mailSender, EmailConfig.PoolConfig pool, MeterRegistry meterRegistry) {
+    this.mailSender = mailSender;
+    this.pool = pool;
+    this.meterRegistry = meterRegistry;
+    this.permits = new Semaphore(pool.getMaxConnections(), true);
+    this.opened = connectionCounter(meterRegistry, "opened");
+    this.reused = connectionCounter(meterRegistry, "reused");
+    Gauge.builder("notification.smtp.connections.idle", idle, BlockingDeque::size)
+        .register(meterRegistry);
+  }
+
+  public void send(MimeMessage message) throws MessagingException {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "failure";
+    try {
+      if (!permits.tryAcquire(pool.getBorrowTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new MessagingException("No SMTP connection free within " + pool.getBorrowTimeout());
+      }
+      try {
+        sendOnPooledConnection(message);
+      } finally {
+        permits.release();
+      }
+      outcome = "success";
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MessagingException("Interrupted waiting for an SMTP connection", e);
+    } finally {
+      sample.stop(meterRegistry.timer("notification.smtp.send", "outcome", outcome));
+    }
+  }
+
+  private void sendOnPooledConnection(MimeMessage message) throws MessagingException {
+    PooledConnection connection = borrow();
+    try {
+      if (message.getSentDate() == null) {
+        message.setSentDate(new Date());
+      }
+      message.saveChanges();
+      connection.transport.sendMessage(message, message.getAllRecipients());
+    } catch (MessagingException | RuntimeException e) {
+      // The session may be mid-command; never hand it out again
+      close(connection);
+      throw e;
+    }
+    connection.sent++;
+    if (connection.sent >= pool.getMaxMessagesPerConnection()) {
+      close(connection);
+    } else {
+      connection.lastUsed = System.nanoTime();
+      idle.offerFirst(connection);
+    }
+  }
+
+  /** Most recently used first, so surplus connections age out and close. */
+  private PooledConnection borrow() throws MessagingException {
+    PooledConnection connection;
+    while ((connection = idle.pollFirst()) != null) {
+      if (System.nanoTime() - connection.lastUsed < pool.getIdleTimeout().toNanos()) {
+        reused.increment();
+        return connection;
+      }
+      close(connection);
+    }
+    return open();
+  }
+
+  private PooledConnection open() throws MessagingException {
+    Session session = mailSender.getSession();
+    String protocol = mailSender.getProtocol();
+    if (protocol == null) {
+      protocol = session.getProperty("mail.transport.protocol");
+    }
+    Transport transport = session.getTransport(protocol != null ? protocol : "smtp");
+    String username = mailSender.getUsername();
+    String password = mailSender.getPassword();
+    if ("".equals(username)) {
+      username = null;
+      if ("".equals(password)) {
+        password = null;
+      }
+    }
+    transport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+    opened.increment();
+    return new PooledConnection(transport);
+  }
+
+  private static void close(PooledConnection connection) {
+    try {
+      connection.transport.close();
+    } catch (MessagingException e) {
+      log.debug("Failed to close SMTP connection cleanly", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    PooledConnection connection;
+    while ((connection = idle.pollFirst()) != null) {
+      close(connection);
+    }
+  }
+
+  private static Counter connectionCounter(MeterRegistry registry, String event) {
+    return Counter.builder("notification.smtp.connections").tag("event", event).register(registry);
+  }
+
+  private static final class PooledConnection {
+    private final Transport transport;
+    private int sent;
+    private long lastUsed = System.nanoTime();
+
+    private PooledConnection(Transport transport) {
+      this.transport = transport;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.supplyboost.notification.mail;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+/**
+ * Renders email templates and times each render as {@code notification.template.render}, tagged
+ * with the template name. With {@code spring.thymeleaf.cache} on, templates and the shared
+ * fragments in {@code fragments/layout.html} are parsed once; startup renders each template so the
+ * first emails after a deploy do not pay for parsing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TemplateRenderer {
+
+  static final List<String> TEMPLATES =
+      List.of(
+          "order-confirmation", "payment-confirmation", "shipment-notification", "order-digest");
+
+  private final TemplateEngine templateEngine;
+  private final MeterRegistry meterRegistry;
+
+  public String render(String templateName, Map<String, Object> variables) {
+    return render(templateName, Set.of(), variables, templateName);
+  }
+
+  /** Renders only the element marked {@code th:fragment="<fragment>"} in the template. */
+  public String renderFragment(
+      String templateName, String fragment, Map<String, Object> variables) {
+    return render(templateName, Set.of(fragment), variables, templateName + "::" + fragment);
+  }
+
+  private String render(
+      String templateName, Set<String> selectors, Map<String, Object> variables, String tag) {
+    Context context = new Context();
+    context.setVariables(variables);
+    Timer.Sample sample = Timer.start(meterRegistry);
+    try {
+      return templateEngine.process(templateName, selectors, context);
+    } finally {
+      sample.stop(meterRegistry.timer("notification.template.render", "template", tag));
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    for (String templateName : TEMPLATES) {
+      try {
+        templateEngine.process(templateName, new Context());
+      } catch (RuntimeException e) {
+        log.warn("Could not pre-load email template: {}", templateName, e);
+      }
+    }
+    log.info("Pre-loaded {} email templates", TEMPLATES.size());
+  }
+}
@@ -0,0 +1,10 @@
+package com.supplyboost.notification.model;
+
+import lombok.Value;
+
+/** Notifications sharing a key within the digest window are sent as one email. */
+@Value
+public class DigestKey {
+  String recipientEmail;
+  String orderNumber;
+}
@@ -0,0 +1,17 @@
+package com.supplyboost.notification.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/** A held notification claimed for merging into a digest. */
+@Value
+@Builder
+public class DigestPart {
+  long id;
+  NotificationType type;
+  String recipientName;
+  String paymentNumber;
+  String trackingNumber;
+  String body;
+  String section;
+}
@@ -16,7 +16,11 @@ import lombok.NoArgsConstructor;
 public class NotificationHistory {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_history_seq")
+  @SequenceGenerator(
+      name = "notification_history_seq",
+      sequenceName = "notification_history_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(name = "notification_type", nullable = false)
@@ -58,6 +62,17 @@ public class NotificationHistory {
   @Column(name = "sent_at")
   private LocalDateTime sentAt;
 
+  /** Rendered HTML, kept only while the notification is queued or after it has failed. */
+  @Column(name = "body")
+  private String body;
+
+  @Column(name = "next_attempt_at")
+  private LocalDateTime nextAttemptAt;
+
+  /** Details block rendered on its own, used if the notification is merged into a digest. */
+  @Column(name = "digest_section")
+  private String digestSection;
+
   @PrePersist
   protected void onCreate() {
     createdAt = LocalDateTime.now();
@@ -0,0 +1,16 @@
+package com.supplyboost.notification.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/** A queued notification claimed by a worker for delivery. */
+@Value
+@Builder
+public class NotificationJob {
+  long id;
+  String recipientEmail;
+  String recipientName;
+  String subject;
+  String body;
+  int attempts;
+}
@@ -3,5 +3,9 @@ package com.supplyboost.notification.model;
 public enum NotificationStatus {
   PENDING,
   SENT,
-  FAILED
+  FAILED,
+  /** Held for the digest window of its recipient and order. */
+  COALESCING,
+  /** Merged into an ORDER_DIGEST notification instead of being sent on its own. */
+  COALESCED
 }
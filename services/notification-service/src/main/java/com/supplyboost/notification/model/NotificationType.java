@@ -4,5 +4,6 @@ public enum NotificationType {
   ORDER_CONFIRMATION,
   PAYMENT_CONFIRMATION,
   SHIPMENT_NOTIFICATION,
-  DELIVERY_CONFIRMATION
+  DELIVERY_CONFIRMATION,
+  ORDER_DIGEST
 }
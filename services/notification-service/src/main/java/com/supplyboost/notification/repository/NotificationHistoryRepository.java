@@ -16,8 +16,5 @@ public interface NotificationHistoryRepository extends JpaRepository<Notificatio
 
   List<NotificationHistory> findByStatus(NotificationStatus status);
 
-  List<NotificationHistory> findByStatusAndRetryCountLessThan(
-      NotificationStatus status, Integer maxRetries);
-
   List<NotificationHistory> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 }
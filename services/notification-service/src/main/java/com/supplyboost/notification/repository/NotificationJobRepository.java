@@ -0,0 +1,151 @@
+package com.supplyboost.notification.repository;
+
+import com.supplyboost.notification.model.DigestKey;
+import com.supplyboost.notification.model.DigestPart;
+import com.supplyboost.notification.model.NotificationJob;
+import com.supplyboost.notification.model.NotificationType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Queue operations on {@code notification_history}. A PENDING row with a {@code next_attempt_at} is
+ * a queued job and a COALESCING row waits for its digest window; SENT, FAILED and COALESCED rows
+ * are finished.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJobRepository {
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Leases up to {@code limit} due jobs by pushing their next attempt to {@code leaseUntil}, so a
+   * job whose worker dies comes back once the lease runs out. {@code SKIP LOCKED} lets several
+   * instances claim concurrently without handing out a job twice.
+   */
+  public List<NotificationJob> claimDue(int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+    return jdbcTemplate.query(
+        "UPDATE notification_history SET next_attempt_at = ? WHERE id IN ("
+            + " SELECT id FROM notification_history"
+            + " WHERE status = 'PENDING' AND next_attempt_at <= ?"
+            + " ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED)"
+            + " RETURNING id, recipient_email, recipient_name, subject, body, retry_count",
+        NotificationJobRepository::mapRow,
+        Timestamp.valueOf(leaseUntil),
+        Timestamp.valueOf(now),
+        limit);
+  }
+
+  /** Drops the body once sent; the history row keeps the metadata. */
+  public void markSent(long id, LocalDateTime sentAt) {
+    jdbcTemplate.update(
+        "UPDATE notification_history SET status = 'SENT', sent_at = ?, body = NULL,"
+            + " next_attempt_at = NULL, failure_reason = NULL WHERE id = ?",
+        Timestamp.valueOf(sentAt),
+        id);
+  }
+
+  public void reschedule(long id, int attempts, LocalDateTime nextAttemptAt, String error) {
+    jdbcTemplate.update(
+        "UPDATE notification_history SET retry_count = ?, next_attempt_at = ?, failure_reason = ?"
+            + " WHERE id = ?",
+        attempts,
+        Timestamp.valueOf(nextAttemptAt),
+        truncate(error),
+        id);
+  }
+
+  public void markFailed(long id, int attempts, String error) {
+    jdbcTemplate.update(
+        "UPDATE notification_history SET status = 'FAILED', retry_count = ?,"
+            + " next_attempt_at = NULL, failure_reason = ? WHERE id = ?",
+        attempts,
+        truncate(error),
+        id);
+  }
+
+  /**
+   * Claims every held notification for one recipient and order by marking it COALESCED, including
+   * rows held by other instances, so each window is digested once.
+   */
+  public List<DigestPart> claimHeld(DigestKey key) {
+    List<DigestPart> parts =
+        jdbcTemplate.query(
+            "UPDATE notification_history SET status = 'COALESCED' WHERE id IN ("
+                + " SELECT id FROM notification_history WHERE status = 'COALESCING'"
+                + " AND recipient_email = ? AND order_number = ? FOR UPDATE SKIP LOCKED)"
+                + " RETURNING id, notification_type, recipient_name, payment_number,"
+                + " tracking_number, body, digest_section",
+            NotificationJobRepository::mapPart,
+            key.getRecipientEmail(),
+            key.getOrderNumber());
+    parts.sort(Comparator.comparingLong(DigestPart::getId));
+    return parts;
+  }
+
+  /** Queues a claimed notification for sending on its own after all. */
+  public void release(long id, LocalDateTime now) {
+    jdbcTemplate.update(
+        "UPDATE notification_history SET status = 'PENDING', next_attempt_at = ?,"
+            + " digest_section = NULL WHERE id = ?",
+        Timestamp.valueOf(now),
+        id);
+  }
+
+  public void clearMerged(List<Long> ids) {
+    jdbcTemplate.batchUpdate(
+        "UPDATE notification_history SET body = NULL, digest_section = NULL WHERE id = ?",
+        ids,
+        ids.size(),
+        (ps, id) -> ps.setLong(1, id));
+  }
+
+  /** Keys with notifications held since before {@code cutoff}, e.g. left over by a restart. */
+  public List<DigestKey> findHeldSince(LocalDateTime cutoff) {
+    return jdbcTemplate.query(
+        "SELECT DISTINCT recipient_email, order_number FROM notification_history"
+            + " WHERE status = 'COALESCING' AND created_at <= ?",
+        (rs, rowNum) ->
+            new DigestKey(rs.getString("recipient_email"), rs.getString("order_number")),
+        Timestamp.valueOf(cutoff));
+  }
+
+  private static DigestPart mapPart(ResultSet rs, int rowNum) throws SQLException {
+    return DigestPart.builder()
+        .id(rs.getLong("id"))
+        .type(NotificationType.valueOf(rs.getString("notification_type")))
+        .recipientName(rs.getString("recipient_name"))
+        .paymentNumber(rs.getString("payment_number"))
+        .trackingNumber(rs.getString("tracking_number"))
+        .body(rs.getString("body"))
+        .section(rs.getString("digest_section"))
+        .build();
+  }
+
+  private static NotificationJob mapRow(ResultSet rs, int rowNum) throws SQLException {
+    return NotificationJob.builder()
+        .id(rs.getLong("id"))
+        .recipientEmail(rs.getString("recipient_email"))
+        .recipientName(rs.getString("recipient_name"))
+        .subject(rs.getString("subject"))
+        .body(rs.getString("body"))
+        .attempts(rs.getInt("retry_count"))
+        .build();
+  }
+
+  private static String truncate(String error) {
+    if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+      return error;
+    }
+    return error.substring(0, MAX_ERROR_LENGTH);
+  }
+}
@@ -0,0 +1,102 @@
+package com.supplyboost.notification.service;
+
+import com.supplyboost.notification.mail.TemplateRenderer;
+import com.supplyboost.notification.model.DigestKey;
+import com.supplyboost.notification.model.DigestPart;
+import com.supplyboost.notification.model.NotificationHistory;
+import com.supplyboost.notification.model.NotificationStatus;
+import com.supplyboost.notification.model.NotificationType;
+import com.supplyboost.notification.repository.NotificationHistoryRepository;
+import com.supplyboost.notification.repository.NotificationJobRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DigestService {
+
+  private static final Map<NotificationType, String> HEADINGS =
+      Map.of(
+          NotificationType.ORDER_CONFIRMATION, "Order Confirmed",
+          NotificationType.PAYMENT_CONFIRMATION, "Payment Received",
+          NotificationType.SHIPMENT_NOTIFICATION, "Order Shipped");
+
+  private final NotificationJobRepository jobRepository;
+  private final NotificationHistoryRepository notificationHistoryRepository;
+  private final TemplateRenderer templateRenderer;
+
+  /**
+   * Closes the window for {@code key}. A lone notification is queued as it was rendered; two or
+   * more are merged into one ORDER_DIGEST email and kept in history as COALESCED.
+   */
+  @Transactional
+  public void flush(DigestKey key) {
+    List<DigestPart> parts = jobRepository.claimHeld(key);
+    if (parts.isEmpty()) {
+      return;
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    if (parts.size() == 1) {
+      jobRepository.release(parts.get(0).getId(), now);
+      return;
+    }
+
+    String recipientName =
+        parts.stream()
+            .map(DigestPart::getRecipientName)
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElse("Customer");
+    List<Map<String, String>> sections =
+        parts.stream()
+            .map(
+                part ->
+                    Map.of(
+                        "heading",
+                        HEADINGS.getOrDefault(part.getType(), part.getType().name()),
+                        "html",
+                        part.getSection()))
+            .toList();
+
+    NotificationHistory digest =
+        NotificationHistory.builder()
+            .type(NotificationType.ORDER_DIGEST)
+            .recipientEmail(key.getRecipientEmail())
+            .recipientName(recipientName)
+            .subject("Order Update - " + key.getOrderNumber())
+            .status(NotificationStatus.PENDING)
+            .orderNumber(key.getOrderNumber())
+            .paymentNumber(first(parts, DigestPart::getPaymentNumber))
+            .trackingNumber(first(parts, DigestPart::getTrackingNumber))
+            .body(
+                templateRenderer.render(
+                    "order-digest",
+                    Map.of(
+                        "customerName", recipientName,
+                        "orderNumber", key.getOrderNumber(),
+                        "sections", sections)))
+            .nextAttemptAt(now)
+            .build();
+    notificationHistoryRepository.save(digest);
+    jobRepository.clearMerged(parts.stream().map(DigestPart::getId).toList());
+
+    log.info(
+        "Merged {} notifications for order {} into one digest to: {}",
+        parts.size(),
+        key.getOrderNumber(),
+        key.getRecipientEmail());
+  }
+
+  private static String first(List<DigestPart> parts, Function<DigestPart, String> field) {
+    return parts.stream().map(field).filter(Objects::nonNull).findFirst().orElse(null);
+  }
+}
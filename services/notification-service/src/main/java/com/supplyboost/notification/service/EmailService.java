@@ -1,23 +1,25 @@
 package com.supplyboost.notification.service;
 
 import com.supplyboost.notification.config.EmailConfig;
+import com.supplyboost.notification.mail.PooledMailTransport;
+import com.supplyboost.notification.mail.TemplateRenderer;
+import com.supplyboost.notification.model.DigestKey;
 import com.supplyboost.notification.model.NotificationHistory;
+import com.supplyboost.notification.model.NotificationJob;
 import com.supplyboost.notification.model.NotificationStatus;
 import com.supplyboost.notification.model.NotificationType;
 import com.supplyboost.notification.repository.NotificationHistoryRepository;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
+import java.io.UnsupportedEncodingException;
 import java.time.LocalDateTime;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 @Slf4j
 @Service
@@ -25,11 +27,12 @@ import org.thymeleaf.context.Context;
 public class EmailService {
 
   private final JavaMailSender mailSender;
-  private final TemplateEngine templateEngine;
+  private final PooledMailTransport mailTransport;
+  private final TemplateRenderer templateRenderer;
+  private final NotificationCoalescer coalescer;
   private final EmailConfig emailConfig;
   private final NotificationHistoryRepository notificationHistoryRepository;
 
-  @Async
   @Transactional
   public void sendOrderConfirmation(
       String recipientEmail,
@@ -61,7 +64,6 @@ public class EmailService {
         null);
   }
 
-  @Async
   @Transactional
   public void sendPaymentConfirmation(
       String recipientEmail,
@@ -95,7 +97,6 @@ public class EmailService {
         null);
   }
 
-  @Async
   @Transactional
   public void sendShipmentNotification(
       String recipientEmail,
@@ -129,6 +130,10 @@ public class EmailService {
         trackingNumber);
   }
 
+  /**
+   * Renders the email and queues it in {@code notification_history}. Delivery happens on the {@link
+   * NotificationQueueWorker}, so the listener returns without waiting on SMTP.
+   */
   private void sendTemplatedEmail(
       String recipientEmail,
       String recipientName,
@@ -152,72 +157,50 @@ public class EmailService {
             .trackingNumber(trackingNumber)
             .build();
 
-    try {
-      if (!emailConfig.isEnabled()) {
-        log.warn("Email sending is disabled. Skipping email to: {}", recipientEmail);
-        notification.setStatus(NotificationStatus.FAILED);
-        notification.setFailureReason("Email sending is disabled");
-        notificationHistoryRepository.save(notification);
-        return;
-      }
-
-      if (emailConfig.isMockMode()) {
-        log.info(
-            "MOCK MODE: Email would be sent to {} with subject: {}", recipientEmail, subject);
-        notification.setStatus(NotificationStatus.SENT);
-        notification.setSentAt(LocalDateTime.now());
-        notificationHistoryRepository.save(notification);
-        return;
-      }
-
-      String htmlContent = processTemplate(templateName, variables);
-
-      MimeMessage message = mailSender.createMimeMessage();
-      MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-      helper.setFrom(emailConfig.getFrom(), emailConfig.getFromName());
-      helper.setTo(recipientEmail);
-      helper.setSubject(subject);
-      helper.setText(htmlContent, true);
-
-      mailSender.send(message);
-
-      notification.setStatus(NotificationStatus.SENT);
-      notification.setSentAt(LocalDateTime.now());
-      notificationHistoryRepository.save(notification);
-
-      log.info("Email sent successfully to: {}", recipientEmail);
-
-    } catch (MessagingException e) {
-      log.error("Failed to send email to: {}", recipientEmail, e);
+    if (!emailConfig.isEnabled()) {
+      log.warn("Email sending is disabled. Skipping email to: {}", recipientEmail);
       notification.setStatus(NotificationStatus.FAILED);
-      notification.setFailureReason(e.getMessage());
-      notification.setRetryCount(notification.getRetryCount() + 1);
+      notification.setFailureReason("Email sending is disabled");
       notificationHistoryRepository.save(notification);
+      return;
+    }
 
-      // Retry logic
-      if (notification.getRetryCount() < emailConfig.getRetry().getMaxAttempts()) {
-        log.info("Scheduling retry for notification: {}", notification.getId());
-        scheduleRetry(notification);
-      }
+    notification.setBody(templateRenderer.render(templateName, variables));
+    if (orderNumber != null && coalescer.join(new DigestKey(recipientEmail, orderNumber))) {
+      notification.setStatus(NotificationStatus.COALESCING);
+      notification.setDigestSection(
+          templateRenderer.renderFragment(templateName, "section", variables));
+      notificationHistoryRepository.save(notification);
+      log.debug("Holding {} email to: {} for digest", notificationType, recipientEmail);
+      return;
     }
-  }
 
-  private String processTemplate(String templateName, Map<String, Object> variables) {
-    Context context = new Context();
-    context.setVariables(variables);
-    return templateEngine.process(templateName, context);
+    notification.setNextAttemptAt(LocalDateTime.now());
+    notificationHistoryRepository.save(notification);
+
+    log.debug("Queued {} email to: {}", notificationType, recipientEmail);
   }
 
-  private void scheduleRetry(NotificationHistory notification) {
-    // Simple retry logic - in production, use a job scheduler like Quartz
-    try {
-      Thread.sleep(emailConfig.getRetry().getDelay());
-      // Retry sending the email
-      log.info("Retrying email notification: {}", notification.getId());
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-      log.error("Retry interrupted", e);
+  /** Sends one queued email. Failures propagate so the worker can reschedule the job. */
+  public void deliver(NotificationJob job) throws MessagingException, UnsupportedEncodingException {
+    if (emailConfig.isMockMode()) {
+      log.info(
+          "MOCK MODE: Email would be sent to {} with subject: {}",
+          job.getRecipientEmail(),
+          job.getSubject());
+      return;
     }
+
+    MimeMessage message = mailSender.createMimeMessage();
+    MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+    helper.setFrom(emailConfig.getFrom(), emailConfig.getFromName());
+    helper.setTo(job.getRecipientEmail());
+    helper.setSubject(job.getSubject());
+    helper.setText(job.getBody(), true);
+
+    mailTransport.send(message);
+
+    log.info("Email sent successfully to: {}", job.getRecipientEmail());
   }
 }
@@ -0,0 +1,95 @@
+package com.supplyboost.notification.service;
+
+import com.supplyboost.notification.config.EmailConfig;
+import com.supplyboost.notification.model.DigestKey;
+import com.supplyboost.notification.repository.NotificationJobRepository;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks open digest windows per recipient and order. The held notifications themselves are rows in
+ * {@code notification_history}, so the map only decides when to flush: a restart or a full map
+ * loses no email, and the sweep flushes any window nobody is tracking.
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+  private final DigestService digestService;
+  private final NotificationJobRepository jobRepository;
+  private final EmailConfig.DigestConfig digest;
+  private final Map<DigestKey, LocalDateTime> openWindows = new ConcurrentHashMap<>();
+
+  public NotificationCoalescer(
+      DigestService digestService,
+      NotificationJobRepository jobRepository,
+      EmailConfig emailConfig) {
+    this.digestService = digestService;
+    this.jobRepository = jobRepository;
+    this.digest = emailConfig.getDigest();
+  }
+
+  /**
+   * Opens or joins the window for {@code key}. Returns false when digests are off or the map is
+   * full, and the caller then queues the notification on its own.
+   */
+  public boolean join(DigestKey key) {
+    if (!digest.isEnabled()) {
+      return false;
+    }
+    if (openWindows.containsKey(key)) {
+      return true;
+    }
+    if (openWindows.size() >= digest.getMaxOpenWindows()) {
+      log.warn(
+          "{} digest windows open, sending notification for {} on its own",
+          openWindows.size(),
+          key);
+      return false;
+    }
+    openWindows.putIfAbsent(key, LocalDateTime.now().plus(digest.getWindow()));
+    return true;
+  }
+
+  @Scheduled(
+      fixedDelayString = "${notification.email.digest.flush-interval:PT1S}",
+      initialDelayString = "${notification.email.digest.flush-interval:PT1S}")
+  public void flushDue() {
+    LocalDateTime now = LocalDateTime.now();
+    openWindows.forEach(
+        (key, closesAt) -> {
+          if (!closesAt.isAfter(now) && openWindows.remove(key, closesAt)) {
+            flush(key);
+          }
+        });
+  }
+
+  /** Flushes windows held since before a restart, or opened by a join that lost a race. */
+  @Scheduled(
+      fixedDelayString = "${notification.email.digest.window:PT60S}",
+      initialDelayString = "${notification.email.digest.window:PT60S}")
+  public void sweep() {
+    if (!digest.isEnabled()) {
+      return;
+    }
+    LocalDateTime cutoff = LocalDateTime.now().minus(digest.getWindow().multipliedBy(2));
+    for (DigestKey key : jobRepository.findHeldSince(cutoff)) {
+      if (!openWindows.containsKey(key)) {
+        flush(key);
+      }
+    }
+  }
+
+  private void flush(DigestKey key) {
+    try {
+      digestService.flush(key);
+    } catch (RuntimeException e) {
+      // The rows stay held, and the sweep retries them
+      log.error("Failed to flush digest for {}", key, e);
+    }
+  }
+}
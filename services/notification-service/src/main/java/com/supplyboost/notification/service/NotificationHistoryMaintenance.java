@@ -0,0 +1,166 @@
+package com.supplyboost.notification.service;
+
+import com.supplyboost.notification.config.HistoryConfig;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the monthly partitions of {@code notification_history} in shape: creates the upcoming ones,
+ * and archives then drops those past retention. Runs at startup and nightly; an advisory lock lets
+ * only one instance work at a time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationHistoryMaintenance {
+
+  private static final String TABLE = "notification_history";
+  private static final Pattern PARTITION = Pattern.compile(TABLE + "_p(\\d{6})");
+  private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+  private static final long LOCK_KEY = TABLE.hashCode();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final HistoryConfig historyConfig;
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${notification.history.maintenance-cron:0 15 3 * * *}")
+  public void maintain() {
+    try {
+      jdbcTemplate.execute(
+          (ConnectionCallback<Void>)
+              connection -> {
+                if (!advisoryLock(connection, "pg_try_advisory_lock")) {
+                  log.debug("Partition maintenance already running on another instance");
+                  return null;
+                }
+                try {
+                  maintain(connection, YearMonth.now());
+                } finally {
+                  advisoryLock(connection, "pg_advisory_unlock");
+                }
+                return null;
+              });
+    } catch (DataAccessException | UncheckedIOException e) {
+      // Never fail startup; the next run retries
+      log.error("Partition maintenance of {} failed", TABLE, e);
+    }
+  }
+
+  private void maintain(Connection connection, YearMonth current) throws SQLException {
+    for (int i = 0; i <= historyConfig.getPremakeMonths(); i++) {
+      createPartition(connection, current.plusMonths(i));
+    }
+
+    YearMonth oldestKept = current.minusMonths(historyConfig.getRetentionMonths());
+    for (String partition : partitions(connection)) {
+      Matcher matcher = PARTITION.matcher(partition);
+      if (matcher.matches() && YearMonth.parse(matcher.group(1), SUFFIX).isBefore(oldestKept)) {
+        if (historyConfig.isArchiveEnabled()) {
+          archive(connection, partition);
+        }
+        drop(connection, partition);
+      }
+    }
+  }
+
+  private void createPartition(Connection connection, YearMonth month) {
+    String partition = TABLE + "_p" + month.format(SUFFIX);
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(
+          "CREATE TABLE IF NOT EXISTS "
+              + partition
+              + " PARTITION OF "
+              + TABLE
+              + " FOR VALUES FROM ('"
+              + month.atDay(1)
+              + "') TO ('"
+              + month.plusMonths(1).atDay(1)
+              + "')");
+    } catch (SQLException e) {
+      // Fails if the default partition already holds rows for this month
+      log.error("Could not create partition {}", partition, e);
+    }
+  }
+
+  private static List<String> partitions(Connection connection) throws SQLException {
+    List<String> partitions = new ArrayList<>();
+    try (PreparedStatement statement =
+        connection.prepareStatement(
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid"
+                + " WHERE i.inhparent = ?::regclass ORDER BY c.relname")) {
+      statement.setString(1, TABLE);
+      try (ResultSet rs = statement.executeQuery()) {
+        while (rs.next()) {
+          partitions.add(rs.getString(1));
+        }
+      }
+    }
+    return partitions;
+  }
+
+  /** Streams the partition through {@code COPY} into a gzipped CSV, moved into place when done. */
+  private void archive(Connection connection, String partition) throws SQLException {
+    Path directory = Paths.get(historyConfig.getArchivePath());
+    Path target = directory.resolve(partition + ".csv.gz");
+    Path temp = directory.resolve(partition + ".csv.gz.tmp");
+    try {
+      Files.createDirectories(directory);
+      long rows;
+      try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+        rows =
+            connection
+                .unwrap(PGConnection.class)
+                .getCopyAPI()
+                .copyOut("COPY " + partition + " TO STDOUT WITH (FORMAT csv, HEADER)", out);
+      }
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      log.info("Archived {} rows of {} to {}", rows, partition, target);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to archive " + partition, e);
+    }
+  }
+
+  private static void drop(Connection connection, String partition) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+      statement.execute("DROP TABLE " + partition);
+    }
+    log.info("Dropped expired partition {}", partition);
+  }
+
+  private static boolean advisoryLock(Connection connection, String function) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement("SELECT " + function + "(?)")) {
+      statement.setLong(1, LOCK_KEY);
+      try (ResultSet rs = statement.executeQuery()) {
+        return rs.next() && rs.getBoolean(1);
+      }
+    }
+  }
+}
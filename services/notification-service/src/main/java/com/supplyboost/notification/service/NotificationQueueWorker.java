@@ -0,0 +1,104 @@
+package com.supplyboost.notification.service;
+
+import com.supplyboost.notification.config.EmailConfig;
+import com.supplyboost.notification.model.NotificationJob;
+import com.supplyboost.notification.repository.NotificationJobRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers queued notifications. Each poll claims a batch of due jobs and sends them on a pool
+ * sized to {@code notification.email.queue.smtp-concurrency}, so a slow mail server backs up the
+ * queue instead of listener or scheduler threads. Failed sends are retried with exponential
+ * back-off until {@code notification.email.retry.max-attempts}, then marked FAILED.
+ */
+@Slf4j
+@Component
+public class NotificationQueueWorker {
+
+  private final NotificationJobRepository jobRepository;
+  private final EmailService emailService;
+  private final EmailConfig.QueueConfig queue;
+  private final EmailConfig.RetryConfig retry;
+  private final ExecutorService smtpExecutor;
+
+  public NotificationQueueWorker(
+      NotificationJobRepository jobRepository, EmailService emailService, EmailConfig emailConfig) {
+    this.jobRepository = jobRepository;
+    this.emailService = emailService;
+    this.queue = emailConfig.getQueue();
+    this.retry = emailConfig.getRetry();
+    AtomicInteger threads = new AtomicInteger();
+    this.smtpExecutor =
+        Executors.newFixedThreadPool(
+            queue.getSmtpConcurrency(),
+            task -> new Thread(task, "smtp-sender-" + threads.incrementAndGet()));
+  }
+
+  @Scheduled(
+      fixedDelayString = "${notification.email.queue.poll-interval:PT1S}",
+      initialDelayString = "${notification.email.queue.poll-interval:PT1S}")
+  public void dispatch() {
+    LocalDateTime now = LocalDateTime.now();
+    List<NotificationJob> due =
+        jobRepository.claimDue(queue.getBatchSize(), now, now.plus(queue.getLease()));
+    if (due.isEmpty()) {
+      return;
+    }
+
+    CompletableFuture.allOf(
+            due.stream()
+                .map(job -> CompletableFuture.runAsync(() -> deliver(job), smtpExecutor))
+                .toArray(CompletableFuture[]::new))
+        .join();
+    log.debug("Dispatched {} queued notifications", due.size());
+  }
+
+  private void deliver(NotificationJob job) {
+    try {
+      emailService.deliver(job);
+      jobRepository.markSent(job.getId(), LocalDateTime.now());
+    } catch (Exception e) {
+      int attempts = job.getAttempts() + 1;
+      if (attempts >= retry.getMaxAttempts()) {
+        jobRepository.markFailed(job.getId(), attempts, e.toString());
+        log.error(
+            "Giving up on notification {} to: {} after {} attempts",
+            job.getId(),
+            job.getRecipientEmail(),
+            attempts,
+            e);
+        return;
+      }
+      Duration delay = backoff(attempts);
+      jobRepository.reschedule(
+          job.getId(), attempts, LocalDateTime.now().plus(delay), e.toString());
+      log.warn(
+          "Attempt {} of notification {} to: {} failed, retrying in {}: {}",
+          attempts,
+          job.getId(),
+          job.getRecipientEmail(),
+          delay,
+          e.toString());
+    }
+  }
+
+  Duration backoff(int attempts) {
+    Duration delay = retry.getInitialDelay().multipliedBy(1L << Math.min(attempts - 1, 30));
+    return delay.compareTo(retry.getMaxDelay()) > 0 ? retry.getMaxDelay() : delay;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    smtpExecutor.shutdown();
+  }
+}
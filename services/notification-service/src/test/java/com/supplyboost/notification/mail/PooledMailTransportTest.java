@@ -0,0 +1,85 @@
+package com.supplyboost.notification.mail;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.supplyboost.notification.config.EmailConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+class PooledMailTransportTest {
+
+  @RegisterExtension
+  static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+  private final JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+  private final EmailConfig.PoolConfig pool = new EmailConfig.PoolConfig();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private PooledMailTransport transport;
+
+  @BeforeEach
+  void setUp() {
+    mailSender.setHost("localhost");
+    mailSender.setPort(greenMail.getSmtp().getPort());
+  }
+
+  @AfterEach
+  void tearDown() {
+    transport.close();
+  }
+
+  @Test
+  void send_ShouldReuseConnectionAcrossMessages() throws Exception {
+    // Arrange
+    transport = new PooledMailTransport(mailSender, pool, meterRegistry);
+
+    // Act
+    for (int i = 0; i < 5; i++) {
+      transport.send(message("customer" + i + "@example.com"));
+    }
+
+    // Assert
+    assertEquals(5, greenMail.getReceivedMessages().length);
+    assertEquals(1, connections("opened"));
+    assertEquals(4, connections("reused"));
+    assertEquals(5, meterRegistry.timer("notification.smtp.send", "outcome", "success").count());
+  }
+
+  @Test
+  void send_ShouldReplaceConnectionAfterMessageCap() throws Exception {
+    // Arrange
+    pool.setMaxMessagesPerConnection(2);
+    transport = new PooledMailTransport(mailSender, pool, meterRegistry);
+
+    // Act
+    for (int i = 0; i < 5; i++) {
+      transport.send(message("customer" + i + "@example.com"));
+    }
+
+    // Assert
+    assertEquals(5, greenMail.getReceivedMessages().length);
+    assertEquals(3, connections("opened"));
+    assertEquals(2, connections("reused"));
+  }
+
+  private MimeMessage message(String to) throws Exception {
+    MimeMessage message = mailSender.createMimeMessage();
+    MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+    helper.setFrom("noreply@supplyboost.com");
+    helper.setTo(to);
+    helper.setSubject("Order Confirmation");
+    helper.setText("<p>Thanks for your order</p>", true);
+    return message;
+  }
+
+  private double connections(String event) {
+    return meterRegistry.counter("notification.smtp.connections", "event", event).count();
+  }
+}
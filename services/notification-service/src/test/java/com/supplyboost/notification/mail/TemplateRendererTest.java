@@ -0,0 +1,88 @@
+package com.supplyboost.notification.mail;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+class TemplateRendererTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final TemplateRenderer renderer = new TemplateRenderer(engine(), meterRegistry);
+
+  @Test
+  void render_ShouldIncludeSharedFragmentsAndRecordTime() {
+    // Act
+    String html =
+        renderer.render(
+            "order-confirmation",
+            Map.of(
+                "customerName", "Jane Doe",
+                "orderNumber", "ORD-1",
+                "totalAmount", "99.99",
+                "status", "PENDING",
+                "orderDate", LocalDateTime.of(2024, 1, 1, 10, 30)));
+
+    // Assert
+    assertTrue(html.contains("Order #ORD-1"));
+    assertTrue(html.contains("Jan 01, 2024 10:30"));
+    assertTrue(html.contains("font-family: Arial"));
+    assertTrue(html.contains("All rights reserved."));
+    assertFalse(html.contains("th:replace"));
+    assertEquals(
+        1,
+        meterRegistry
+            .timer("notification.template.render", "template", "order-confirmation")
+            .count());
+  }
+
+  @Test
+  void renderFragment_ShouldRenderSectionForDigest() {
+    // Arrange
+    String section =
+        renderer.renderFragment(
+            "payment-confirmation",
+            "section",
+            Map.of(
+                "orderNumber", "ORD-1",
+                "paymentNumber", "PAY-1",
+                "paymentMethod", "CARD",
+                "amount", "99.99",
+                "paymentDate", LocalDateTime.of(2024, 1, 1, 10, 35)));
+
+    // Act
+    String digest =
+        renderer.render(
+            "order-digest",
+            Map.of(
+                "customerName", "Jane Doe",
+                "orderNumber", "ORD-1",
+                "sections", List.of(Map.of("heading", "Payment Received", "html", section))));
+
+    // Assert
+    assertTrue(section.startsWith("<div class=\"payment-details\""));
+    assertFalse(section.contains("Dear"));
+    assertTrue(digest.contains("Payment Received"));
+    assertTrue(digest.contains("Payment #PAY-1"));
+  }
+
+  @Test
+  void warmUp_ShouldParseEveryTemplate() {
+    // Act & Assert
+    assertDoesNotThrow(renderer::warmUp);
+  }
+
+  private static SpringTemplateEngine engine() {
+    ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+    resolver.setPrefix("templates/");
+    resolver.setSuffix(".html");
+    SpringTemplateEngine engine = new SpringTemplateEngine();
+    engine.setTemplateResolver(resolver);
+    return engine;
+  }
+}
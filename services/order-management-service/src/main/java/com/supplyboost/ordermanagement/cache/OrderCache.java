@@ -0,0 +1,152 @@
+package com.supplyboost.ordermanagement.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.supplyboost.ordermanagement.dto.OrderResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through Redis cache of {@link OrderResponse} by order id, so status polling is answered
+ * without a database connection.
+ *
+ * <p>Every write to an order evicts its entry once the transaction commits, and {@link
+ * OrderCacheListener} evicts it again when the matching {@code order.status.changed} event arrives,
+ * which also clears a value a concurrent reader cached from before the commit. Concurrent misses
+ * for one order share a single load in this instance. When Redis is unavailable, reads fall through
+ * to the loader.
+ */
+@Slf4j
+@Component
+public class OrderCache {
+
+  private static final String KEY_PREFIX = "order:";
+
+  private final StringRedisTemplate redis;
+  private final ObjectMapper objectMapper;
+  private final Duration ttl;
+  private final ConcurrentMap<Long, CompletableFuture<OrderResponse>> loading =
+      new ConcurrentHashMap<>();
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter errors;
+
+  public OrderCache(
+      StringRedisTemplate redis,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${orders.cache.ttl:PT5M}") Duration ttl) {
+    this.redis = redis;
+    this.objectMapper = objectMapper;
+    this.ttl = ttl;
+    this.hits = meterRegistry.counter("orders.cache.requests", "result", "hit");
+    this.misses = meterRegistry.counter("orders.cache.requests", "result", "miss");
+    this.errors = meterRegistry.counter("orders.cache.requests", "result", "error");
+  }
+
+  public OrderResponse get(Long orderId, Function<Long, OrderResponse> loader) {
+    OrderResponse cached = read(orderId);
+    if (cached != null) {
+      hits.increment();
+      return cached;
+    }
+    misses.increment();
+
+    CompletableFuture<OrderResponse> load = new CompletableFuture<>();
+    CompletableFuture<OrderResponse> inFlight = loading.putIfAbsent(orderId, load);
+    if (inFlight != null) {
+      return await(inFlight);
+    }
+    try {
+      OrderResponse order = loader.apply(orderId);
+      write(orderId, order);
+      load.complete(order);
+      return order;
+    } catch (RuntimeException e) {
+      load.completeExceptionally(e);
+      throw e;
+    } finally {
+      loading.remove(orderId, load);
+    }
+  }
+
+  public void evictAfterCommit(Long orderId) {
+    evictAllAfterCommit(List.of(orderId));
+  }
+
+  /** Evicts the orders once the current transaction commits, or now if there is none. */
+  public void evictAllAfterCommit(Collection<Long> orderIds) {
+    if (orderIds.isEmpty()) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evictAll(orderIds);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            evictAll(orderIds);
+          }
+        });
+  }
+
+  public void evict(Long orderId) {
+    evictAll(List.of(orderId));
+  }
+
+  private void evictAll(Collection<Long> orderIds) {
+    try {
+      redis.delete(orderIds.stream().map(id -> KEY_PREFIX + id).toList());
+    } catch (DataAccessException e) {
+      log.warn("Failed to evict orders {} from cache: {}", orderIds, e.getMessage());
+    }
+  }
+
+  private OrderResponse read(Long orderId) {
+    try {
+      String json = redis.opsForValue().get(KEY_PREFIX + orderId);
+      return json != null ? objectMapper.readValue(json, OrderResponse.class) : null;
+    } catch (DataAccessException | JsonProcessingException e) {
+      errors.increment();
+      log.warn("Failed to read order {} from cache: {}", orderId, e.getMessage());
+      return null;
+    }
+  }
+
+  private void write(Long orderId, OrderResponse order) {
+    try {
+      redis.opsForValue().set(KEY_PREFIX + orderId, objectMapper.writeValueAsString(order), ttl);
+    } catch (DataAccessException | JsonProcessingException e) {
+      errors.increment();
+      log.warn("Failed to cache order {}: {}", orderId, e.getMessage());
+    }
+  }
+
+  private static OrderResponse await(CompletableFuture<OrderResponse> load) {
+    try {
+      return load.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
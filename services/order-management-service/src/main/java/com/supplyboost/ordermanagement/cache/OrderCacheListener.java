@@ -0,0 +1,26 @@
+package com.supplyboost.ordermanagement.cache;
+
+import com.supplyboost.events.OrderStatusChangedEvent;
+import com.supplyboost.events.serde.EventSerdeConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/** Evicts cached orders on this service's own status change events. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCacheListener {
+
+  private final OrderCache orderCache;
+
+  @KafkaListener(
+      topics = "order.status.changed",
+      groupId = "order-service-group",
+      properties = EventSerdeConfig.VALUE_TYPE + "=com.supplyboost.events.OrderStatusChangedEvent")
+  public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+    log.debug("Evicting cached order {} after status change", event.getOrderNumber());
+    orderCache.evict(event.getOrderId());
+  }
+}
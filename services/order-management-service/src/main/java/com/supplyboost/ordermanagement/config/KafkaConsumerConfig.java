@@ -1,16 +1,22 @@
 package com.supplyboost.ordermanagement.config;
 
+import com.supplyboost.events.serde.EventDeserializer;
+import com.supplyboost.messaging.idempotency.IdempotencyStore;
+import com.supplyboost.messaging.idempotency.IdempotentBatchInterceptor;
+import com.supplyboost.messaging.idempotency.IdempotentRebalanceListener;
+import com.supplyboost.messaging.idempotency.IdempotentRecordInterceptor;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.listener.CommonErrorHandler;
 
 @Configuration
 public class KafkaConsumerConfig {
@@ -18,25 +24,75 @@ public class KafkaConsumerConfig {
   @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
   private String bootstrapServers;
 
+  @Value("${spring.kafka.listener.concurrency:3}")
+  private int concurrency;
+
+  @Value("${spring.kafka.consumer.max-poll-records:500}")
+  private int maxPollRecords;
+
   @Bean
   public ConsumerFactory<String, Object> consumerFactory() {
     Map<String, Object> config = new HashMap<>();
     config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
     config.put(ConsumerConfig.GROUP_ID_CONFIG, "order-service-group");
     config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-    config.put(
-        ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-    config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-    config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, Object.class);
+    config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, EventDeserializer.class);
+    config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
     return new DefaultKafkaConsumerFactory<>(config);
   }
 
   @Bean
   public ConcurrentKafkaListenerContainerFactory<String, Object>
-      kafkaListenerContainerFactory() {
+      kafkaListenerContainerFactory(
+          ObjectProvider<IdempotencyStore> idempotencyStore,
+          ObjectProvider<CommonErrorHandler> errorHandler) {
+    ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(consumerFactory());
+    factory.setConcurrency(concurrency);
+    errorHandler.ifAvailable(factory::setCommonErrorHandler);
+    idempotencyStore.ifAvailable(
+        store -> {
+          factory.setRecordInterceptor(new IdempotentRecordInterceptor<>(store));
+          factory
+              .getContainerProperties()
+              .setConsumerRebalanceListener(new IdempotentRebalanceListener(store));
+        });
+    return factory;
+  }
+
+  /**
+   * For listeners that every instance runs in its own consumer group to see the whole topic. Such
+   * groups are throwaway, so records are neither deduplicated nor dead-lettered.
+   */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, Object>
+      broadcastKafkaListenerContainerFactory() {
+    ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(consumerFactory());
+    return factory;
+  }
+
+  /** Batch factory for listeners that fan records out through a KeyOrderedExecutor. */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, Object>
+      keyOrderedKafkaListenerContainerFactory(
+          ObjectProvider<IdempotencyStore> idempotencyStore,
+          ObjectProvider<CommonErrorHandler> errorHandler) {
     ConcurrentKafkaListenerContainerFactory<String, Object> factory =
         new ConcurrentKafkaListenerContainerFactory<>();
     factory.setConsumerFactory(consumerFactory());
+    factory.setConcurrency(concurrency);
+    factory.setBatchListener(true);
+    errorHandler.ifAvailable(factory::setCommonErrorHandler);
+    idempotencyStore.ifAvailable(
+        store -> {
+          factory.setBatchInterceptor(new IdempotentBatchInterceptor<>(store));
+          factory
+              .getContainerProperties()
+              .setConsumerRebalanceListener(new IdempotentRebalanceListener(store));
+        });
     return factory;
   }
 }
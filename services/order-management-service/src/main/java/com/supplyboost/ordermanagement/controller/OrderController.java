@@ -1,9 +1,17 @@
 package com.supplyboost.ordermanagement.controller;
 
+import com.supplyboost.ordermanagement.cache.OrderCache;
+import com.supplyboost.ordermanagement.dto.BulkStatusTransitionRequest;
+import com.supplyboost.ordermanagement.dto.BulkStatusTransitionResponse;
 import com.supplyboost.ordermanagement.dto.CreateOrderRequest;
+import com.supplyboost.ordermanagement.dto.OrderHistoryPage;
+import com.supplyboost.ordermanagement.dto.OrderItemDto;
 import com.supplyboost.ordermanagement.dto.OrderResponse;
+import com.supplyboost.ordermanagement.dto.OrderStatusUpdate;
 import com.supplyboost.ordermanagement.model.OrderStatus;
+import com.supplyboost.ordermanagement.service.BulkOrderStatusService;
 import com.supplyboost.ordermanagement.service.OrderService;
+import com.supplyboost.ordermanagement.stream.OrderStatusHub;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -11,8 +19,10 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -22,6 +32,9 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
   private final OrderService orderService;
+  private final BulkOrderStatusService bulkOrderStatusService;
+  private final OrderCache orderCache;
+  private final OrderStatusHub statusHub;
 
   @PostMapping
   @Operation(summary = "Create order", description = "Create a new order from cart")
@@ -36,10 +49,31 @@ public class OrderController {
   @Operation(summary = "Get order", description = "Retrieve order by ID")
   public ResponseEntity<OrderResponse> getOrder(@PathVariable Long orderId) {
     log.info("Getting order: {}", orderId);
-    OrderResponse order = orderService.getOrder(orderId);
+    // Served from the cache outside any transaction, so a hit never takes a DB connection
+    OrderResponse order = orderCache.get(orderId, orderService::getOrder);
     return ResponseEntity.ok(order);
   }
 
+  @GetMapping(path = "/{orderId}/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(
+      summary = "Stream order status",
+      description = "Server-sent events with the current status, then every status change")
+  public SseEmitter streamOrderStatus(@PathVariable Long orderId) {
+    log.debug("Opening status stream for order: {}", orderId);
+    // Read after subscribing and from the database, so no change can fall between the two
+    return statusHub.subscribe(
+        orderId,
+        () -> {
+          OrderResponse order = orderService.getOrder(orderId);
+          return OrderStatusUpdate.builder()
+              .orderId(order.getId())
+              .orderNumber(order.getOrderNumber())
+              .status(order.getStatus())
+              .changedAt(order.getUpdatedAt())
+              .build();
+        });
+  }
+
   @GetMapping("/number/{orderNumber}")
   @Operation(summary = "Get order by number", description = "Retrieve order by order number")
   public ResponseEntity<OrderResponse> getOrderByNumber(@PathVariable String orderNumber) {
@@ -48,6 +82,25 @@ public class OrderController {
     return ResponseEntity.ok(order);
   }
 
+  @GetMapping("/{orderId}/items")
+  @Operation(summary = "Get order items", description = "Retrieve the line items of an order")
+  public ResponseEntity<List<OrderItemDto>> getOrderItems(@PathVariable Long orderId) {
+    log.info("Getting items for order: {}", orderId);
+    return ResponseEntity.ok(orderService.getOrderItems(orderId));
+  }
+
+  @GetMapping("/user/{userId}/history")
+  @Operation(
+      summary = "Get user order history",
+      description = "Page through order summaries for a user, newest first")
+  public ResponseEntity<OrderHistoryPage> getOrderHistory(
+      @PathVariable Long userId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    log.info("Getting order history for user: {}", userId);
+    return ResponseEntity.ok(orderService.getOrderHistory(userId, cursor, size));
+  }
+
   @GetMapping("/user/{userId}")
   @Operation(summary = "Get user orders", description = "Retrieve all orders for a user")
   public ResponseEntity<List<OrderResponse>> getUserOrders(@PathVariable Long userId) {
@@ -67,6 +120,17 @@ public class OrderController {
     return ResponseEntity.ok(order);
   }
 
+  @PostMapping("/status-transitions")
+  @Operation(
+      summary = "Bulk update order status",
+      description = "Move many orders to one status; orders it isn't reachable from are reported")
+  public ResponseEntity<BulkStatusTransitionResponse> transitionOrders(
+      @Valid @RequestBody BulkStatusTransitionRequest request) {
+    log.info(
+        "Bulk transition of {} orders to {}", request.getOrderIds().size(), request.getStatus());
+    return ResponseEntity.ok(bulkOrderStatusService.transition(request));
+  }
+
   @PutMapping("/{orderId}/payment")
   @Operation(summary = "Update payment info", description = "Update order payment information")
   public ResponseEntity<Void> updatePaymentInfo(
@@ -0,0 +1,55 @@
+package com.supplyboost.ordermanagement.controller;
+
+import com.supplyboost.ordermanagement.dto.OrderSearchCriteria;
+import com.supplyboost.ordermanagement.dto.OrderSearchPage;
+import com.supplyboost.ordermanagement.model.OrderStatus;
+import com.supplyboost.ordermanagement.search.OrderSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/orders/search")
+@RequiredArgsConstructor
+@Tag(name = "Order Search", description = "Order search APIs for operations and support")
+public class OrderSearchController {
+
+  private final OrderSearchService orderSearchService;
+
+  @GetMapping
+  @Operation(
+      summary = "Search orders",
+      description = "Filter orders by status, user, email, postal code and creation time")
+  public ResponseEntity<OrderSearchPage> searchOrders(
+      @RequestParam(required = false) OrderStatus status,
+      @RequestParam(required = false) Long userId,
+      @RequestParam(required = false) String email,
+      @RequestParam(required = false) String postalCode,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime to,
+      @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
+          Pageable pageable) {
+    log.info("Searching orders: status={}, userId={}, postalCode={}", status, userId, postalCode);
+    OrderSearchCriteria criteria =
+        OrderSearchCriteria.builder()
+            .status(status)
+            .userId(userId)
+            .customerEmail(email)
+            .postalCode(postalCode)
+            .createdFrom(from)
+            .createdTo(to)
+            .build();
+    return ResponseEntity.ok(orderSearchService.search(criteria, pageable));
+  }
+}
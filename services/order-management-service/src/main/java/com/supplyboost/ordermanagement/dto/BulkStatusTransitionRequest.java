@@ -0,0 +1,27 @@
+package com.supplyboost.ordermanagement.dto;
+
+import com.supplyboost.ordermanagement.model.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusTransitionRequest {
+
+  @NotNull(message = "Status is required")
+  private OrderStatus status;
+
+  @NotEmpty(message = "Order IDs are required")
+  @Size(max = 10000, message = "At most 10000 orders per request")
+  private List<Long> orderIds;
+
+  private String reason;
+}
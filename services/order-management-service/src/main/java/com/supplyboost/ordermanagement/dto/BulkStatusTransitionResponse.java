@@ -0,0 +1,24 @@
+package com.supplyboost.ordermanagement.dto;
+
+import com.supplyboost.ordermanagement.model.OrderStatus;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusTransitionResponse {
+
+  private OrderStatus status;
+  private int requested;
+  private int transitioned;
+
+  /** Orders that already had the target status; repeating a request only adds to this. */
+  private int unchanged;
+
+  private List<RejectedTransition> rejected;
+}
@@ -0,0 +1,19 @@
+package com.supplyboost.ordermanagement.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderHistoryPage {
+
+  private List<OrderSummary> orders;
+
+  /** Pass back as {@code cursor} to fetch the next page; null on the last page. */
+  private String nextCursor;
+}
@@ -0,0 +1,27 @@
+package com.supplyboost.ordermanagement.dto;
+
+import com.supplyboost.ordermanagement.model.OrderStatus;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Filters of an order search; null fields are not applied. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSearchCriteria {
+
+  private OrderStatus status;
+  private Long userId;
+  private String customerEmail;
+  private String postalCode;
+
+  /** Inclusive lower bound on the order's creation time. */
+  private LocalDateTime createdFrom;
+
+  /** Exclusive upper bound on the order's creation time. */
+  private LocalDateTime createdTo;
+}
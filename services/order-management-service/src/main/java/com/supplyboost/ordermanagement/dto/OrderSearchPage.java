@@ -0,0 +1,20 @@
+package com.supplyboost.ordermanagement.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSearchPage {
+
+  private List<OrderSearchResult> results;
+  private int page;
+  private int size;
+  private long totalElements;
+  private int totalPages;
+}
@@ -1,5 +1,6 @@
-package com.supplyboost.notification.event;
+package com.supplyboost.ordermanagement.dto;
 
+import com.supplyboost.ordermanagement.model.OrderStatus;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -11,15 +12,19 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class OrderCreatedEvent {
+public class OrderSearchResult {
 
   private Long orderId;
   private String orderNumber;
   private Long userId;
   private String customerName;
   private String customerEmail;
-  private String customerPhone;
+  private OrderStatus status;
   private BigDecimal totalAmount;
-  private String status;
-  private LocalDateTime eventTime;
+  private String currency;
+  private Integer itemCount;
+  private String shippingPostalCode;
+  private String shippingCountry;
+  private LocalDateTime createdAt;
+  private LocalDateTime statusChangedAt;
 }
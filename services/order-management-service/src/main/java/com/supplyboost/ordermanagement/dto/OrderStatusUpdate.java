@@ -1,4 +1,4 @@
-package com.supplyboost.ordermanagement.event;
+package com.supplyboost.ordermanagement.dto;
 
 import com.supplyboost.ordermanagement.model.OrderStatus;
 import java.time.LocalDateTime;
@@ -7,16 +7,16 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/** Payload of a {@code status} event on an order's status stream. */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class OrderStatusChangedEvent {
+public class OrderStatusUpdate {
 
   private Long orderId;
   private String orderNumber;
-  private OrderStatus oldStatus;
-  private OrderStatus newStatus;
+  private OrderStatus status;
   private String reason;
   private LocalDateTime changedAt;
 }
@@ -0,0 +1,28 @@
+package com.supplyboost.ordermanagement.dto;
+
+import com.supplyboost.ordermanagement.model.OrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One row of a user's order history, without items or addresses. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummary {
+
+  private Long id;
+  private String orderNumber;
+  private OrderStatus status;
+  private BigDecimal totalAmount;
+  private String currency;
+  private String paymentStatus;
+  private String trackingNumber;
+  private Long totalItems;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package com.supplyboost.ordermanagement.dto;
+
+import com.supplyboost.ordermanagement.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** An order a bulk transition left alone: unknown, or not in a status leading to the target. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RejectedTransition {
+
+  private Long orderId;
+
+  /** Null when the order does not exist. */
+  private OrderStatus currentStatus;
+}
@@ -1,39 +1,64 @@
 package com.supplyboost.ordermanagement.event;
 
+import com.supplyboost.events.OrderCreatedEvent;
+import com.supplyboost.events.OrderStatusChangedEvent;
+import com.supplyboost.events.ShipmentRequestedEvent;
+import com.supplyboost.messaging.producer.EventSender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * Publishes once the current transaction commits, or right away if there is none, so consumers
+ * never see an event for a change that was rolled back or is not yet visible. A crash between
+ * commit and send loses the event; a send that fails is kept by the outbox.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderEventPublisher {
 
-  private final KafkaTemplate<String, Object> kafkaTemplate;
+  private final EventSender eventSender;
 
   private static final String ORDER_CREATED_TOPIC = "order.created";
   private static final String ORDER_STATUS_CHANGED_TOPIC = "order.status.changed";
+  private static final String SHIPMENT_REQUESTED_TOPIC = "shipment.requested";
 
   public void publishOrderCreated(OrderCreatedEvent event) {
-    try {
-      kafkaTemplate.send(ORDER_CREATED_TOPIC, event.getOrderNumber(), event);
-      log.info("Published order created event for order: {}", event.getOrderNumber());
-    } catch (Exception e) {
-      log.error("Failed to publish order created event", e);
-    }
+    sendAfterCommit(ORDER_CREATED_TOPIC, event.getOrderNumber(), event);
+    log.info("Publishing order created event for order: {}", event.getOrderNumber());
   }
 
   public void publishOrderStatusChanged(OrderStatusChangedEvent event) {
-    try {
-      kafkaTemplate.send(ORDER_STATUS_CHANGED_TOPIC, event.getOrderNumber(), event);
-      log.info(
-          "Published order status changed event for order: {} from {} to {}",
-          event.getOrderNumber(),
-          event.getOldStatus(),
-          event.getNewStatus());
-    } catch (Exception e) {
-      log.error("Failed to publish order status changed event", e);
+    sendAfterCommit(ORDER_STATUS_CHANGED_TOPIC, event.getOrderNumber(), event);
+    log.info(
+        "Publishing order status changed event for order: {} from {} to {}",
+        event.getOrderNumber(),
+        event.getOldStatus(),
+        event.getNewStatus());
+  }
+
+  public void publishShipmentRequested(ShipmentRequestedEvent event) {
+    sendAfterCommit(SHIPMENT_REQUESTED_TOPIC, event.getOrderNumber(), event);
+    log.info(
+        "Publishing shipment requested command for order: {} with correlation ID: {}",
+        event.getOrderNumber(),
+        event.getCorrelationId());
+  }
+
+  private void sendAfterCommit(String topic, String key, Object event) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      eventSender.send(topic, key, event);
+      return;
     }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            eventSender.send(topic, key, event);
+          }
+        });
   }
 }
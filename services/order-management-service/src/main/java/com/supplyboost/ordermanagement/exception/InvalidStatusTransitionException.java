@@ -0,0 +1,7 @@
+package com.supplyboost.ordermanagement.exception;
+
+public class InvalidStatusTransitionException extends RuntimeException {
+  public InvalidStatusTransitionException(String message) {
+    super(message);
+  }
+}
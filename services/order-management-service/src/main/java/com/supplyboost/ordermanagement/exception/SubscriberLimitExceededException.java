@@ -0,0 +1,7 @@
+package com.supplyboost.ordermanagement.exception;
+
+public class SubscriberLimitExceededException extends RuntimeException {
+  public SubscriberLimitExceededException(String message) {
+    super(message);
+  }
+}
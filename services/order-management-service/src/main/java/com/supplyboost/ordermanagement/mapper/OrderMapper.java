@@ -3,8 +3,10 @@ package com.supplyboost.ordermanagement.mapper;
 import com.supplyboost.ordermanagement.dto.AddressDto;
 import com.supplyboost.ordermanagement.dto.OrderItemDto;
 import com.supplyboost.ordermanagement.dto.OrderResponse;
+import com.supplyboost.ordermanagement.dto.OrderSearchResult;
 import com.supplyboost.ordermanagement.model.Order;
 import com.supplyboost.ordermanagement.model.OrderItem;
+import com.supplyboost.ordermanagement.search.OrderSearchEntry;
 import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -37,4 +39,6 @@ public interface OrderMapper {
   OrderResponse toOrderResponse(Order order);
 
   List<OrderResponse> toOrderResponses(List<Order> orders);
+
+  OrderSearchResult toOrderSearchResult(OrderSearchEntry entry);
 }
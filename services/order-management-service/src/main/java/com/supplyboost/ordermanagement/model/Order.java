@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -21,9 +22,14 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class Order {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_id_seq")
+  @SequenceGenerator(name = "orders_id_seq", sequenceName = "orders_id_seq", allocationSize = 50)
   private Long id;
 
+  @Version
+  @Column(name = "version", nullable = false)
+  private Long version;
+
   @Column(name = "order_number", unique = true, nullable = false)
   private String orderNumber;
 
@@ -41,7 +47,8 @@ public class Order {
       mappedBy = "order",
       cascade = CascadeType.ALL,
       orphanRemoval = true,
-      fetch = FetchType.EAGER)
+      fetch = FetchType.LAZY)
+  @BatchSize(size = 50)
   @Builder.Default
   private List<OrderItem> items = new ArrayList<>();
 
@@ -117,6 +124,9 @@ public class Order {
   @Column(name = "tracking_number")
   private String trackingNumber;
 
+  @Column(name = "shipment_correlation_id")
+  private String shipmentCorrelationId;
+
   @Column(name = "shipped_at")
   private LocalDateTime shippedAt;
 
@@ -16,7 +16,11 @@ import lombok.NoArgsConstructor;
 public class OrderItem {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_id_seq")
+  @SequenceGenerator(
+      name = "order_items_id_seq",
+      sequenceName = "order_items_id_seq",
+      allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,61 @@
+package com.supplyboost.ordermanagement.model;
+
+import static com.supplyboost.ordermanagement.model.OrderStatus.*;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The order lifecycle as a table of allowed status transitions. Every status change, from the API,
+ * the saga or a bulk update, is applied only from a status listed here for its target.
+ */
+public final class OrderStatusTransitions {
+
+  private static final Map<OrderStatus, Set<OrderStatus>> TARGETS =
+      new EnumMap<>(OrderStatus.class);
+  private static final Map<OrderStatus, Set<OrderStatus>> SOURCES =
+      new EnumMap<>(OrderStatus.class);
+
+  static {
+    allow(CREATED, PAYMENT_PENDING, PAYMENT_CONFIRMED, PAYMENT_FAILED, CANCELLED);
+    allow(PAYMENT_PENDING, PAYMENT_CONFIRMED, PAYMENT_FAILED, CANCELLED);
+    allow(PAYMENT_FAILED, PAYMENT_PENDING, CANCELLED);
+    allow(
+        PAYMENT_CONFIRMED,
+        INVENTORY_RESERVED,
+        INVENTORY_RESERVATION_FAILED,
+        READY_TO_SHIP,
+        SHIPPED,
+        CANCELLED);
+    allow(INVENTORY_RESERVED, READY_TO_SHIP, SHIPPED, CANCELLED);
+    allow(INVENTORY_RESERVATION_FAILED, CANCELLED, REFUNDED);
+    allow(READY_TO_SHIP, SHIPPED, CANCELLED);
+    allow(SHIPPED, DELIVERED);
+    allow(DELIVERED, REFUNDED);
+    allow(CANCELLED, REFUNDED);
+    allow(REFUNDED);
+  }
+
+  private OrderStatusTransitions() {}
+
+  public static boolean isAllowed(OrderStatus from, OrderStatus to) {
+    return TARGETS.get(from).contains(to);
+  }
+
+  /** Statuses an order may be in to move to {@code to}; empty if nothing leads there. */
+  public static Set<OrderStatus> sourcesOf(OrderStatus to) {
+    return SOURCES.getOrDefault(to, Collections.emptySet());
+  }
+
+  private static void allow(OrderStatus from, OrderStatus... to) {
+    Set<OrderStatus> targets = EnumSet.noneOf(OrderStatus.class);
+    for (OrderStatus target : to) {
+      targets.add(target);
+      SOURCES.computeIfAbsent(target, t -> EnumSet.noneOf(OrderStatus.class)).add(from);
+    }
+    TARGETS.put(from, Collections.unmodifiableSet(targets));
+  }
+}
@@ -0,0 +1,12 @@
+package com.supplyboost.ordermanagement.repository;
+
+import com.supplyboost.ordermanagement.model.OrderItem;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+
+  List<OrderItem> findByOrderIdOrderById(Long orderId);
+}
@@ -1,20 +1,49 @@
 package com.supplyboost.ordermanagement.repository;
 
+import com.supplyboost.ordermanagement.dto.OrderSummary;
 import com.supplyboost.ordermanagement.model.Order;
 import com.supplyboost.ordermanagement.model.OrderStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+  /** Summary projection; the item count comes from idx_order_items_order_id, not a fetch. */
+  String SUMMARY =
+      "new com.supplyboost.ordermanagement.dto.OrderSummary(o.id, o.orderNumber, o.status,"
+          + " o.totalAmount, o.currency, o.paymentStatus, o.trackingNumber,"
+          + " (SELECT SUM(i.quantity) FROM OrderItem i WHERE i.order = o),"
+          + " o.createdAt, o.updatedAt)";
+
   Optional<Order> findByOrderNumber(String orderNumber);
 
+  @EntityGraph(attributePaths = "items")
   List<Order> findByUserId(Long userId);
 
   List<Order> findByStatus(OrderStatus status);
 
   List<Order> findByUserIdAndStatus(Long userId, OrderStatus status);
+
+  /** Newest orders of a user first, read straight off idx_orders_user_created_id. */
+  @Query(
+      "SELECT "
+          + SUMMARY
+          + " FROM Order o WHERE o.userId = :userId ORDER BY o.createdAt DESC, o.id DESC")
+  List<OrderSummary> findHistory(Long userId, Limit limit);
+
+  /** The page after the order at {@code (createdAt, id)} in {@link #findHistory} order. */
+  @Query(
+      "SELECT "
+          + SUMMARY
+          + " FROM Order o WHERE o.userId = :userId AND o.createdAt <= :createdAt"
+          + " AND (o.createdAt < :createdAt OR o.id < :id)"
+          + " ORDER BY o.createdAt DESC, o.id DESC")
+  List<OrderSummary> findHistoryBefore(Long userId, LocalDateTime createdAt, Long id, Limit limit);
 }
@@ -0,0 +1,139 @@
+package com.supplyboost.ordermanagement.repository;
+
+import com.supplyboost.ordermanagement.model.OrderStatus;
+import com.supplyboost.ordermanagement.model.OrderStatusTransitions;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Status updates on {@code orders} as compare-and-set statements: a row changes only while its
+ * status is one the target may be reached from according to {@link OrderStatusTransitions}, and the
+ * entity is never loaded. Every update bumps {@code version}, so a concurrent read-modify-write of
+ * the entity fails its optimistic check instead of overwriting the new status.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderStatusRepository {
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public Optional<StatusTransition> transition(
+      Long orderId, StatusChange change, LocalDateTime now) {
+    return transition(List.of(orderId), change, now).stream().findFirst();
+  }
+
+  /**
+   * Applies {@code change} to those of {@code orderIds} it is allowed for, in one statement. Rows
+   * are locked in id order, so concurrent batches cannot deadlock, and a row changed by a
+   * concurrent writer is re-checked once its lock is granted.
+   */
+  public List<StatusTransition> transition(
+      Collection<Long> orderIds, StatusChange change, LocalDateTime now) {
+    List<String> sources = names(OrderStatusTransitions.sourcesOf(change.target));
+    // An empty list would render as IN (), which PostgreSQL rejects
+    if (orderIds.isEmpty() || sources.isEmpty()) {
+      return List.of();
+    }
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("ids", orderIds)
+            .addValue("sources", sources)
+            .addValue("target", change.target.name())
+            .addValue("now", Timestamp.valueOf(now));
+    StringBuilder assignments = new StringBuilder();
+    change.columns.forEach(
+        (column, value) -> {
+          assignments.append(", ").append(column).append(" = :").append(column);
+          params.addValue(column, value);
+        });
+    StringBuilder conditions = new StringBuilder();
+    change.nullOrEqual.forEach(
+        (column, value) -> {
+          conditions
+              .append(" AND (")
+              .append(column)
+              .append(" IS NULL OR ")
+              .append(column)
+              .append(" = :where_")
+              .append(column)
+              .append(")");
+          params.addValue("where_" + column, value);
+        });
+
+    return jdbcTemplate.query(
+        "UPDATE orders o SET status = :target, updated_at = :now, version = o.version + 1,"
+            + " shipped_at = CASE WHEN :target = 'SHIPPED' THEN :now ELSE o.shipped_at END,"
+            + " delivered_at = CASE WHEN :target = 'DELIVERED' THEN :now ELSE o.delivered_at END"
+            + assignments
+            + " FROM (SELECT id, status FROM orders WHERE id IN (:ids) AND status IN (:sources)"
+            + conditions
+            + " ORDER BY id FOR UPDATE) previous"
+            + " WHERE o.id = previous.id"
+            + " RETURNING o.id, o.order_number, previous.status",
+        params,
+        (rs, rowNum) ->
+            new StatusTransition(
+                rs.getLong(1), rs.getString(2), OrderStatus.valueOf(rs.getString(3))));
+  }
+
+  public Optional<OrderStatus> findStatus(Long orderId) {
+    return Optional.ofNullable(findStatuses(List.of(orderId)).get(orderId));
+  }
+
+  public Map<Long, OrderStatus> findStatuses(Collection<Long> orderIds) {
+    return jdbcTemplate
+        .query(
+            "SELECT id, status FROM orders WHERE id IN (:ids)",
+            new MapSqlParameterSource("ids", orderIds),
+            (rs, rowNum) -> Map.entry(rs.getLong(1), OrderStatus.valueOf(rs.getString(2))))
+        .stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  }
+
+  private static List<String> names(Collection<OrderStatus> statuses) {
+    return statuses.stream().map(OrderStatus::name).toList();
+  }
+
+  public record StatusTransition(Long orderId, String orderNumber, OrderStatus previousStatus) {}
+
+  /** A move to {@code target}, with the columns written alongside it. */
+  public static final class StatusChange {
+
+    private final OrderStatus target;
+    private final Map<String, Object> columns = new LinkedHashMap<>();
+    private final Map<String, Object> nullOrEqual = new LinkedHashMap<>();
+
+    private StatusChange(OrderStatus target) {
+      this.target = target;
+    }
+
+    public static StatusChange to(OrderStatus target) {
+      return new StatusChange(target);
+    }
+
+    public OrderStatus getTarget() {
+      return target;
+    }
+
+    public StatusChange set(String column, Object value) {
+      columns.put(column, value);
+      return this;
+    }
+
+    /** Additionally requires {@code column} to be unset or equal to {@code value}. */
+    public StatusChange whereUnsetOr(String column, Object value) {
+      nullOrEqual.put(column, value);
+      return this;
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.supplyboost.ordermanagement.saga;
+
+import com.supplyboost.events.PaymentProcessedEvent;
+import com.supplyboost.events.ShipmentEvent;
+import com.supplyboost.events.serde.EventSerdeConfig;
+import com.supplyboost.messaging.EventHeaders;
+import com.supplyboost.messaging.concurrency.KeyOrderedExecutor;
+import com.supplyboost.messaging.idempotency.IdempotencyStore;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka entry point for the order saga. Each poll is spread over the key-ordered worker pool by
+ * order number, and every event is still handled in its own orchestrator transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSagaListener {
+
+  private static final String GROUP_ID = "order-service-group";
+
+  private final OrderSagaOrchestrator orchestrator;
+  private final KeyOrderedExecutor keyOrderedExecutor;
+  private final ObjectProvider<IdempotencyStore> idempotencyStore;
+
+  @KafkaListener(
+      topics = "payment.processed",
+      groupId = GROUP_ID,
+      containerFactory = "keyOrderedKafkaListenerContainerFactory",
+      properties = EventSerdeConfig.VALUE_TYPE + "=com.supplyboost.events.PaymentProcessedEvent")
+  public void onPaymentProcessed(List<ConsumerRecord<String, PaymentProcessedEvent>> records) {
+    log.debug("Dispatching {} payment processed events", records.size());
+    keyOrderedExecutor.processInOrder(
+        records,
+        record -> record.value().getOrderNumber(),
+        record -> orchestrator.handlePaymentProcessed(record.value()),
+        this::markProcessed);
+  }
+
+  @KafkaListener(
+      topics = "shipment.created",
+      groupId = GROUP_ID,
+      containerFactory = "keyOrderedKafkaListenerContainerFactory",
+      properties = EventSerdeConfig.VALUE_TYPE + "=com.supplyboost.events.ShipmentEvent")
+  public void onShipmentCreated(List<ConsumerRecord<String, ShipmentEvent>> records) {
+    log.debug("Dispatching {} shipment created events", records.size());
+    keyOrderedExecutor.processInOrder(
+        records,
+        record -> record.value().getOrderNumber(),
+        record -> orchestrator.handleShipmentCreated(record.value()),
+        this::markProcessed);
+  }
+
+  /** Handled records the container will redeliver after a failure elsewhere in the batch. */
+  private void markProcessed(ConsumerRecord<String, ?> record) {
+    String eventId = EventHeaders.eventId(record.headers());
+    IdempotencyStore store = idempotencyStore.getIfAvailable();
+    if (eventId != null && store != null) {
+      store.markProcessed(GROUP_ID, eventId);
+    }
+  }
+}
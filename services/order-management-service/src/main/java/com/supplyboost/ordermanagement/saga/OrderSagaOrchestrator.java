@@ -1,23 +1,21 @@
 package com.supplyboost.ordermanagement.saga;
 
-import com.supplyboost.ordermanagement.event.PaymentProcessedEvent;
-import com.supplyboost.ordermanagement.event.ShipmentCreatedEvent;
+import com.supplyboost.events.PaymentProcessedEvent;
+import com.supplyboost.events.ShipmentEvent;
+import com.supplyboost.events.ShipmentRequestedEvent;
+import com.supplyboost.ordermanagement.event.OrderEventPublisher;
+import com.supplyboost.ordermanagement.exception.OrderNotFoundException;
 import com.supplyboost.ordermanagement.model.Order;
 import com.supplyboost.ordermanagement.model.OrderStatus;
 import com.supplyboost.ordermanagement.repository.OrderRepository;
+import com.supplyboost.ordermanagement.repository.OrderStatusRepository.StatusChange;
+import com.supplyboost.ordermanagement.service.OrderStatusGuard;
+import java.time.LocalDateTime;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-
-import java.util.HashMap;
-import java.util.Map;
 
 @Slf4j
 @Component
@@ -25,108 +23,112 @@ import java.util.Map;
 public class OrderSagaOrchestrator {
 
   private final OrderRepository orderRepository;
-  private final RestTemplate restTemplate;
-
-  @Value("${services.shipping.url:http://localhost:8087}")
-  private String shippingServiceUrl;
+  private final OrderEventPublisher eventPublisher;
+  private final OrderStatusGuard statusGuard;
 
   @Transactional
-  @KafkaListener(topics = "payment.processed", groupId = "order-service-group")
   public void handlePaymentProcessed(PaymentProcessedEvent event) {
     log.info("Received payment processed event for order: {}", event.getOrderNumber());
 
-    Order order =
-        orderRepository
-            .findById(event.getOrderId())
-            .orElseThrow(
-                () ->
-                    new RuntimeException(
-                        "Order not found: " + event.getOrderId()));
-
     if ("SUCCEEDED".equals(event.getStatus())) {
-      // Payment successful - update order and create shipment
-      order.setStatus(OrderStatus.PAYMENT_CONFIRMED);
-      order.setPaymentId(event.getPaymentNumber());
-      order.setPaymentStatus(event.getStatus());
-      order.setPaymentMethod(event.getPaymentMethod());
-      orderRepository.save(order);
-
-      log.info("Payment confirmed for order: {}, creating shipment", order.getOrderNumber());
-
-      // Create shipment
-      createShipment(order);
+      // Payment successful - update order and request shipment
+      String correlationId = UUID.randomUUID().toString();
+      OrderStatusGuard.Result result =
+          statusGuard.transition(
+              event.getOrderId(),
+              StatusChange.to(OrderStatus.PAYMENT_CONFIRMED)
+                  .set("payment_id", event.getPaymentNumber())
+                  .set("payment_status", event.getStatus())
+                  .set("payment_method", event.getPaymentMethod())
+                  .set("shipment_correlation_id", correlationId),
+              null);
+      if (result.outcome() != OrderStatusGuard.Outcome.APPLIED) {
+        log.warn(
+            "Ignoring payment confirmation for order {} in status {}",
+            event.getOrderNumber(),
+            result.status());
+        return;
+      }
+
+      log.info("Payment confirmed for order: {}, requesting shipment", event.getOrderNumber());
+
+      // Request shipment; the reply arrives on shipment.created
+      requestShipment(event.getOrderId(), correlationId);
 
     } else {
       // Payment failed - cancel order and compensate
       log.warn(
           "Payment failed for order: {} - Reason: {}",
-          order.getOrderNumber(),
+          event.getOrderNumber(),
           event.getFailureReason());
 
-      order.setStatus(OrderStatus.PAYMENT_FAILED);
-      order.setPaymentStatus(event.getStatus());
-      orderRepository.save(order);
+      OrderStatusGuard.Result result =
+          statusGuard.transition(
+              event.getOrderId(),
+              StatusChange.to(OrderStatus.PAYMENT_FAILED).set("payment_status", event.getStatus()),
+              event.getFailureReason());
+      if (result.outcome() != OrderStatusGuard.Outcome.APPLIED) {
+        return;
+      }
 
       // TODO: Release inventory reservation (compensating transaction)
-      log.info("Compensating transaction: releasing inventory for order {}", order.getId());
+      log.info("Compensating transaction: releasing inventory for order {}", event.getOrderId());
     }
   }
 
   @Transactional
-  @KafkaListener(topics = "shipment.created", groupId = "order-service-group")
-  public void handleShipmentCreated(ShipmentCreatedEvent event) {
+  public void handleShipmentCreated(ShipmentEvent event) {
     log.info("Received shipment created event for order: {}", event.getOrderNumber());
 
-    Order order =
-        orderRepository
-            .findById(event.getOrderId())
-            .orElseThrow(
-                () ->
-                    new RuntimeException(
-                        "Order not found: " + event.getOrderId()));
-
-    order.setStatus(OrderStatus.SHIPPED);
-    order.setShipmentId(event.getShipmentNumber());
-    order.setTrackingNumber(event.getTrackingNumber());
-    orderRepository.save(order);
+    StatusChange change =
+        StatusChange.to(OrderStatus.SHIPPED)
+            .set("shipment_id", event.getShipmentNumber())
+            .set("tracking_number", event.getTrackingNumber());
+    if (event.getCorrelationId() != null) {
+      change.whereUnsetOr("shipment_correlation_id", event.getCorrelationId());
+    }
+    OrderStatusGuard.Result result = statusGuard.transition(event.getOrderId(), change, null);
+    if (result.outcome() == OrderStatusGuard.Outcome.CONFLICT) {
+      log.warn(
+          "Ignoring shipment reply for order {} in status {} or with stale correlation ID: {}",
+          event.getOrderNumber(),
+          result.status(),
+          event.getCorrelationId());
+      return;
+    }
 
     log.info(
         "Order {} shipped with tracking number: {}",
-        order.getOrderNumber(),
+        event.getOrderNumber(),
         event.getTrackingNumber());
   }
 
-  private void createShipment(Order order) {
-    try {
-      String url = shippingServiceUrl + "/api/v1/shipments";
-
-      Map<String, Object> shipmentRequest = new HashMap<>();
-      shipmentRequest.put("orderId", order.getId());
-      shipmentRequest.put("orderNumber", order.getOrderNumber());
-      shipmentRequest.put("userId", order.getUserId());
-      shipmentRequest.put("recipientName", order.getCustomerName());
-      shipmentRequest.put("recipientEmail", order.getCustomerEmail());
-      shipmentRequest.put("recipientPhone", order.getCustomerPhone());
-      shipmentRequest.put("addressLine1", order.getShippingAddressLine1());
-      shipmentRequest.put("addressLine2", order.getShippingAddressLine2());
-      shipmentRequest.put("city", order.getShippingCity());
-      shipmentRequest.put("state", order.getShippingState());
-      shipmentRequest.put("postalCode", order.getShippingPostalCode());
-      shipmentRequest.put("country", order.getShippingCountry());
-
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.APPLICATION_JSON);
-      HttpEntity<Map<String, Object>> request =
-          new HttpEntity<>(shipmentRequest, headers);
-
-      restTemplate.postForObject(url, request, Object.class);
-      log.info("Shipment creation request sent for order: {}", order.getOrderNumber());
-
-    } catch (Exception e) {
-      log.error("Failed to create shipment for order: {}", order.getOrderNumber(), e);
-      // Update order status to indicate shipment creation failed
-      order.setStatus(OrderStatus.READY_TO_SHIP);
-      orderRepository.save(order);
-    }
+  private void requestShipment(Long orderId, String correlationId) {
+    Order order =
+        orderRepository
+            .findById(orderId)
+            .orElseThrow(() -> new OrderNotFoundException("Order not found: " + orderId));
+
+    ShipmentRequestedEvent command =
+        ShipmentRequestedEvent.builder()
+            .correlationId(correlationId)
+            .orderId(order.getId())
+            .orderNumber(order.getOrderNumber())
+            .userId(order.getUserId())
+            .recipientName(order.getCustomerName())
+            .recipientEmail(order.getCustomerEmail())
+            .recipientPhone(order.getCustomerPhone())
+            .addressLine1(order.getShippingAddressLine1())
+            .addressLine2(order.getShippingAddressLine2())
+            .city(order.getShippingCity())
+            .state(order.getShippingState())
+            .postalCode(order.getShippingPostalCode())
+            .country(order.getShippingCountry())
+            .requestedAt(LocalDateTime.now())
+            .build();
+
+    // Sent once PAYMENT_CONFIRMED and the correlation ID are committed, so the reply always finds
+    // them; a failed send is parked in the outbox and retried by the relay
+    eventPublisher.publishShipmentRequested(command);
   }
 }
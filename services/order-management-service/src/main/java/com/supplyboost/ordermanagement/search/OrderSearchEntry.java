@@ -0,0 +1,63 @@
+package com.supplyboost.ordermanagement.search;
+
+import com.supplyboost.ordermanagement.model.OrderStatus;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Row of the {@code order_search} read model. Written only by {@link OrderSearchProjector} through
+ * upserts, so the entity itself is read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "order_search")
+@Getter
+@NoArgsConstructor
+public class OrderSearchEntry {
+
+  @Id
+  @Column(name = "order_id")
+  private Long orderId;
+
+  @Column(name = "order_number")
+  private String orderNumber;
+
+  @Column(name = "user_id")
+  private Long userId;
+
+  @Column(name = "customer_name")
+  private String customerName;
+
+  /** Stored lower-cased, so searches match regardless of case. */
+  @Column(name = "customer_email")
+  private String customerEmail;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status")
+  private OrderStatus status;
+
+  @Column(name = "total_amount")
+  private BigDecimal totalAmount;
+
+  @Column(name = "currency")
+  private String currency;
+
+  @Column(name = "item_count")
+  private Integer itemCount;
+
+  @Column(name = "shipping_postal_code")
+  private String shippingPostalCode;
+
+  @Column(name = "shipping_country")
+  private String shippingCountry;
+
+  @Column(name = "created_at")
+  private LocalDateTime createdAt;
+
+  @Column(name = "status_changed_at")
+  private LocalDateTime statusChangedAt;
+}
@@ -0,0 +1,63 @@
+package com.supplyboost.ordermanagement.search;
+
+import com.supplyboost.events.OrderCreatedEvent;
+import com.supplyboost.events.OrderItemEvent;
+import com.supplyboost.events.OrderStatusChangedEvent;
+import com.supplyboost.events.serde.EventSerdeConfig;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains {@code order_search} from the order topics. It runs in a consumer group of its own, so
+ * the read model can be rebuilt by resetting that group without touching the saga.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSearchProjector {
+
+  static final String GROUP_ID = "order-search-projector";
+
+  private final OrderSearchRepository repository;
+
+  @Transactional
+  @KafkaListener(
+      topics = "order.created",
+      groupId = GROUP_ID,
+      properties = EventSerdeConfig.VALUE_TYPE + "=com.supplyboost.events.OrderCreatedEvent")
+  public void onOrderCreated(OrderCreatedEvent event) {
+    log.debug("Projecting created order {}", event.getOrderNumber());
+    int itemCount =
+        event.getItems() == null
+            ? 0
+            : event.getItems().stream().mapToInt(OrderItemEvent::getQuantity).sum();
+    repository.upsertCreated(
+        event.getOrderId(),
+        event.getOrderNumber(),
+        event.getUserId(),
+        event.getCustomerName(),
+        event.getCustomerEmail() != null ? event.getCustomerEmail().toLowerCase(Locale.ROOT) : null,
+        event.getStatus(),
+        event.getTotalAmount(),
+        event.getCurrency(),
+        itemCount,
+        event.getShippingPostalCode(),
+        event.getShippingCountry(),
+        event.getCreatedAt());
+  }
+
+  @Transactional
+  @KafkaListener(
+      topics = "order.status.changed",
+      groupId = GROUP_ID,
+      properties = EventSerdeConfig.VALUE_TYPE + "=com.supplyboost.events.OrderStatusChangedEvent")
+  public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+    log.debug("Projecting status {} of order {}", event.getNewStatus(), event.getOrderNumber());
+    repository.upsertStatus(
+        event.getOrderId(), event.getOrderNumber(), event.getNewStatus(), event.getChangedAt());
+  }
+}
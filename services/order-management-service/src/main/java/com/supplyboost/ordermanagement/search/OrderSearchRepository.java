@@ -0,0 +1,61 @@
+package com.supplyboost.ordermanagement.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderSearchRepository
+    extends JpaRepository<OrderSearchEntry, Long>, JpaSpecificationExecutor<OrderSearchEntry> {
+
+  /**
+   * Fills in the descriptive columns. A status that arrived first on {@code order.status.changed}
+   * is newer than the one the order was created with, so it is kept.
+   */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO order_search (order_id, order_number, user_id, customer_name,"
+              + " customer_email, status, total_amount, currency, item_count,"
+              + " shipping_postal_code, shipping_country, created_at, status_changed_at)"
+              + " VALUES (:orderId, :orderNumber, :userId, :customerName, :customerEmail,"
+              + " :status, :totalAmount, :currency, :itemCount, :shippingPostalCode,"
+              + " :shippingCountry, :createdAt, :createdAt)"
+              + " ON CONFLICT (order_id) DO UPDATE SET order_number = EXCLUDED.order_number,"
+              + " user_id = EXCLUDED.user_id, customer_name = EXCLUDED.customer_name,"
+              + " customer_email = EXCLUDED.customer_email, total_amount = EXCLUDED.total_amount,"
+              + " currency = EXCLUDED.currency, item_count = EXCLUDED.item_count,"
+              + " shipping_postal_code = EXCLUDED.shipping_postal_code,"
+              + " shipping_country = EXCLUDED.shipping_country, created_at = EXCLUDED.created_at",
+      nativeQuery = true)
+  void upsertCreated(
+      Long orderId,
+      String orderNumber,
+      Long userId,
+      String customerName,
+      String customerEmail,
+      String status,
+      BigDecimal totalAmount,
+      String currency,
+      Integer itemCount,
+      String shippingPostalCode,
+      String shippingCountry,
+      LocalDateTime createdAt);
+
+  /** Applies a status change unless a later one has already been applied. */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO order_search (order_id, order_number, status, status_changed_at)"
+              + " VALUES (:orderId, :orderNumber, :status, :changedAt)"
+              + " ON CONFLICT (order_id) DO UPDATE SET status = EXCLUDED.status,"
+              + " status_changed_at = EXCLUDED.status_changed_at"
+              + " WHERE order_search.status_changed_at IS NULL"
+              + " OR order_search.status_changed_at <= EXCLUDED.status_changed_at",
+      nativeQuery = true)
+  void upsertStatus(Long orderId, String orderNumber, String status, LocalDateTime changedAt);
+}
@@ -0,0 +1,83 @@
+package com.supplyboost.ordermanagement.search;
+
+import com.supplyboost.ordermanagement.dto.OrderSearchCriteria;
+import com.supplyboost.ordermanagement.dto.OrderSearchPage;
+import com.supplyboost.ordermanagement.exception.InvalidSearchException;
+import com.supplyboost.ordermanagement.mapper.OrderMapper;
+import java.util.Locale;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Filtered, sorted and paginated queries over the {@code order_search} read model. */
+@Service
+@RequiredArgsConstructor
+public class OrderSearchService {
+
+  /** Sort keys clients may use; results are newest first unless asked otherwise. */
+  private static final Set<String> SORTABLE =
+      Set.of("createdAt", "statusChangedAt", "totalAmount", "orderNumber");
+
+  private final OrderSearchRepository repository;
+  private final OrderMapper orderMapper;
+
+  @Transactional(readOnly = true)
+  public OrderSearchPage search(OrderSearchCriteria criteria, Pageable pageable) {
+    for (Sort.Order order : pageable.getSort()) {
+      if (!SORTABLE.contains(order.getProperty())) {
+        throw new InvalidSearchException(
+            "Cannot sort by " + order.getProperty() + ", use one of " + SORTABLE);
+      }
+    }
+    if (criteria.getCreatedFrom() != null
+        && criteria.getCreatedTo() != null
+        && !criteria.getCreatedFrom().isBefore(criteria.getCreatedTo())) {
+      throw new InvalidSearchException("from must be before to");
+    }
+
+    // Order id breaks ties, so rows don't move between pages
+    Pageable stable =
+        PageRequest.of(
+            pageable.getPageNumber(),
+            pageable.getPageSize(),
+            pageable.getSort().and(Sort.by(Sort.Direction.DESC, "orderId")));
+    Page<OrderSearchEntry> page = repository.findAll(specification(criteria), stable);
+
+    return OrderSearchPage.builder()
+        .results(page.map(orderMapper::toOrderSearchResult).getContent())
+        .page(page.getNumber())
+        .size(page.getSize())
+        .totalElements(page.getTotalElements())
+        .totalPages(page.getTotalPages())
+        .build();
+  }
+
+  private static Specification<OrderSearchEntry> specification(OrderSearchCriteria criteria) {
+    return Specification.allOf(
+        equal("status", criteria.getStatus()),
+        equal("userId", criteria.getUserId()),
+        equal(
+            "customerEmail",
+            criteria.getCustomerEmail() != null
+                ? criteria.getCustomerEmail().toLowerCase(Locale.ROOT)
+                : null),
+        equal("shippingPostalCode", criteria.getPostalCode()),
+        criteria.getCreatedFrom() == null
+            ? null
+            : (root, query, cb) ->
+                cb.greaterThanOrEqualTo(root.get("createdAt"), criteria.getCreatedFrom()),
+        criteria.getCreatedTo() == null
+            ? null
+            : (root, query, cb) -> cb.lessThan(root.get("createdAt"), criteria.getCreatedTo()));
+  }
+
+  private static Specification<OrderSearchEntry> equal(String attribute, Object value) {
+    return value == null ? null : (root, query, cb) -> cb.equal(root.get(attribute), value);
+  }
+}
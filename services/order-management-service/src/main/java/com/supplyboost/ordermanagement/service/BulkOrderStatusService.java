@@ -0,0 +1,135 @@
+package com.supplyboost.ordermanagement.service;
+
+import com.supplyboost.events.OrderStatusChangedEvent;
+import com.supplyboost.ordermanagement.cache.OrderCache;
+import com.supplyboost.ordermanagement.dto.BulkStatusTransitionRequest;
+import com.supplyboost.ordermanagement.dto.BulkStatusTransitionResponse;
+import com.supplyboost.ordermanagement.dto.RejectedTransition;
+import com.supplyboost.ordermanagement.event.OrderEventPublisher;
+import com.supplyboost.ordermanagement.exception.InvalidStatusTransitionException;
+import com.supplyboost.ordermanagement.model.OrderStatus;
+import com.supplyboost.ordermanagement.model.OrderStatusTransitions;
+import com.supplyboost.ordermanagement.repository.OrderStatusRepository;
+import com.supplyboost.ordermanagement.repository.OrderStatusRepository.StatusChange;
+import com.supplyboost.ordermanagement.repository.OrderStatusRepository.StatusTransition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves many orders to one status. Each chunk of IDs is a single conditional UPDATE in its own
+ * transaction, so locks are held briefly and a failure loses at most one chunk. The chunk's events
+ * are sent back to back, and the producer batches them.
+ */
+@Slf4j
+@Service
+public class BulkOrderStatusService {
+
+  private final OrderStatusRepository orderStatusRepository;
+  private final OrderEventPublisher eventPublisher;
+  private final OrderCache orderCache;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final Counter transitioned;
+  private final Counter unchanged;
+  private final Counter rejected;
+
+  public BulkOrderStatusService(
+      OrderStatusRepository orderStatusRepository,
+      OrderEventPublisher eventPublisher,
+      OrderCache orderCache,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${orders.bulk-status.chunk-size:500}") int chunkSize) {
+    this.orderStatusRepository = orderStatusRepository;
+    this.eventPublisher = eventPublisher;
+    this.orderCache = orderCache;
+    this.transactionTemplate = transactionTemplate;
+    this.chunkSize = chunkSize;
+    this.transitioned = meterRegistry.counter("orders.status.bulk", "outcome", "transitioned");
+    this.unchanged = meterRegistry.counter("orders.status.bulk", "outcome", "unchanged");
+    this.rejected = meterRegistry.counter("orders.status.bulk", "outcome", "rejected");
+  }
+
+  public BulkStatusTransitionResponse transition(BulkStatusTransitionRequest request) {
+    OrderStatus target = request.getStatus();
+    if (OrderStatusTransitions.sourcesOf(target).isEmpty()) {
+      throw new InvalidStatusTransitionException("No order can be moved to " + target);
+    }
+
+    List<Long> orderIds = request.getOrderIds().stream().distinct().toList();
+    List<RejectedTransition> rejections = new ArrayList<>();
+    int applied = 0;
+    int alreadyThere = 0;
+    for (int from = 0; from < orderIds.size(); from += chunkSize) {
+      List<Long> chunk = orderIds.subList(from, Math.min(from + chunkSize, orderIds.size()));
+      List<StatusTransition> transitions =
+          transactionTemplate.execute(tx -> applyChunk(chunk, target, request.getReason()));
+      applied += transitions.size();
+      if (transitions.size() < chunk.size()) {
+        List<RejectedTransition> chunkRejections = rejectionsOf(chunk, transitions, target);
+        rejections.addAll(chunkRejections);
+        alreadyThere += chunk.size() - transitions.size() - chunkRejections.size();
+      }
+    }
+
+    transitioned.increment(applied);
+    unchanged.increment(alreadyThere);
+    rejected.increment(rejections.size());
+    log.info(
+        "Bulk transition to {}: {} of {} orders moved, {} already there, {} rejected",
+        target,
+        applied,
+        orderIds.size(),
+        alreadyThere,
+        rejections.size());
+    return BulkStatusTransitionResponse.builder()
+        .status(target)
+        .requested(orderIds.size())
+        .transitioned(applied)
+        .unchanged(alreadyThere)
+        .rejected(rejections)
+        .build();
+  }
+
+  private List<StatusTransition> applyChunk(List<Long> chunk, OrderStatus target, String reason) {
+    LocalDateTime now = LocalDateTime.now();
+    List<StatusTransition> transitions =
+        orderStatusRepository.transition(chunk, StatusChange.to(target), now);
+    for (StatusTransition transition : transitions) {
+      eventPublisher.publishOrderStatusChanged(
+          OrderStatusChangedEvent.builder()
+              .orderId(transition.orderId())
+              .orderNumber(transition.orderNumber())
+              .oldStatus(transition.previousStatus().name())
+              .newStatus(target.name())
+              .reason(reason)
+              .changedAt(now)
+              .build());
+    }
+    orderCache.evictAllAfterCommit(transitions.stream().map(StatusTransition::orderId).toList());
+    return transitions;
+  }
+
+  /** Orders that did not move, except those already in {@code target}, as for a single order. */
+  private List<RejectedTransition> rejectionsOf(
+      List<Long> chunk, List<StatusTransition> transitions, OrderStatus target) {
+    Set<Long> moved = new HashSet<>();
+    transitions.forEach(t -> moved.add(t.orderId()));
+    List<Long> left = chunk.stream().filter(id -> !moved.contains(id)).toList();
+    Map<Long, OrderStatus> statuses = orderStatusRepository.findStatuses(left);
+    return left.stream()
+        .filter(id -> statuses.get(id) != target)
+        .map(id -> RejectedTransition.builder().orderId(id).currentStatus(statuses.get(id)).build())
+        .toList();
+  }
+}
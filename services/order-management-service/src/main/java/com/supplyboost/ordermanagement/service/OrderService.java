@@ -1,25 +1,34 @@
 package com.supplyboost.ordermanagement.service;
 
+import com.supplyboost.events.OrderCreatedEvent;
+import com.supplyboost.events.OrderItemEvent;
+import com.supplyboost.ids.IdFormat;
+import com.supplyboost.ids.SnowflakeIdGenerator;
+import com.supplyboost.ordermanagement.cache.OrderCache;
 import com.supplyboost.ordermanagement.client.ShoppingCartClient;
 import com.supplyboost.ordermanagement.dto.*;
-import com.supplyboost.ordermanagement.event.OrderCreatedEvent;
 import com.supplyboost.ordermanagement.event.OrderEventPublisher;
-import com.supplyboost.ordermanagement.event.OrderItemEvent;
-import com.supplyboost.ordermanagement.event.OrderStatusChangedEvent;
 import com.supplyboost.ordermanagement.exception.CartNotFoundException;
 import com.supplyboost.ordermanagement.exception.EmptyCartException;
+import com.supplyboost.ordermanagement.exception.InvalidCursorException;
+import com.supplyboost.ordermanagement.exception.InvalidStatusTransitionException;
 import com.supplyboost.ordermanagement.exception.OrderNotFoundException;
 import com.supplyboost.ordermanagement.mapper.OrderMapper;
 import com.supplyboost.ordermanagement.model.Order;
 import com.supplyboost.ordermanagement.model.OrderItem;
 import com.supplyboost.ordermanagement.model.OrderStatus;
+import com.supplyboost.ordermanagement.repository.OrderItemRepository;
 import com.supplyboost.ordermanagement.repository.OrderRepository;
+import com.supplyboost.ordermanagement.repository.OrderStatusRepository.StatusChange;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,10 +37,16 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class OrderService {
 
+  private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
   private final OrderRepository orderRepository;
+  private final OrderItemRepository orderItemRepository;
   private final ShoppingCartClient shoppingCartClient;
   private final OrderMapper orderMapper;
   private final OrderEventPublisher eventPublisher;
+  private final SnowflakeIdGenerator idGenerator;
+  private final OrderCache orderCache;
+  private final OrderStatusGuard statusGuard;
 
   @Transactional
   public OrderResponse createOrder(CreateOrderRequest request) {
@@ -131,44 +146,70 @@ public class OrderService {
     return orderMapper.toOrderResponses(orders);
   }
 
+  /**
+   * One page of a user's orders, newest first. Pages are keyed on the last row's {@code (createdAt,
+   * id)} rather than an offset, so each one is an index range scan however deep the history goes.
+   */
+  @Transactional(readOnly = true)
+  public OrderHistoryPage getOrderHistory(Long userId, String cursor, int size) {
+    int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+    Limit limit = Limit.of(pageSize + 1);
+    List<OrderSummary> rows;
+    if (cursor == null || cursor.isBlank()) {
+      rows = orderRepository.findHistory(userId, limit);
+    } else {
+      HistoryCursor after = HistoryCursor.decode(cursor);
+      rows = orderRepository.findHistoryBefore(userId, after.createdAt(), after.id(), limit);
+    }
+
+    String nextCursor = null;
+    if (rows.size() > pageSize) {
+      rows = rows.subList(0, pageSize);
+      OrderSummary last = rows.get(pageSize - 1);
+      nextCursor = new HistoryCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+    return OrderHistoryPage.builder().orders(rows).nextCursor(nextCursor).build();
+  }
+
+  @Transactional(readOnly = true)
+  public List<OrderItemDto> getOrderItems(Long orderId) {
+    List<OrderItem> items = orderItemRepository.findByOrderIdOrderById(orderId);
+    if (items.isEmpty() && !orderRepository.existsById(orderId)) {
+      throw new OrderNotFoundException("Order not found: " + orderId);
+    }
+    return orderMapper.toOrderItemDtos(items);
+  }
+
   @Transactional
   public OrderResponse updateOrderStatus(
       Long orderId, OrderStatus newStatus, String reason) {
-    Order order =
-        orderRepository
-            .findById(orderId)
-            .orElseThrow(
-                () -> new OrderNotFoundException("Order not found: " + orderId));
-
-    OrderStatus oldStatus = order.getStatus();
-    order.setStatus(newStatus);
-    Order updatedOrder = orderRepository.save(order);
-
-    log.info(
-        "Order {} status updated from {} to {}",
-        order.getOrderNumber(),
-        oldStatus,
-        newStatus);
+    OrderStatusGuard.Result result =
+        statusGuard.transition(orderId, StatusChange.to(newStatus), reason);
+    requireTransition(orderId, newStatus, result);
 
-    // Publish status changed event
-    publishOrderStatusChangedEvent(order, oldStatus, newStatus, reason);
+    log.info("Order {} status updated from {} to {}", orderId, result.status(), newStatus);
 
-    return orderMapper.toOrderResponse(updatedOrder);
+    return getOrder(orderId);
   }
 
-  @Transactional
+  /** Not a status change, so it is an entity update guarded by the order's version. */
   public void updatePaymentInfo(
       Long orderId, String paymentId, String paymentStatus, String paymentMethod) {
     Order order =
-        orderRepository
-            .findById(orderId)
-            .orElseThrow(
-                () -> new OrderNotFoundException("Order not found: " + orderId));
-
-    order.setPaymentId(paymentId);
-    order.setPaymentStatus(paymentStatus);
-    order.setPaymentMethod(paymentMethod);
-    orderRepository.save(order);
+        statusGuard.retryOnVersionConflict(
+            "updatePaymentInfo",
+            () -> {
+              Order current =
+                  orderRepository
+                      .findById(orderId)
+                      .orElseThrow(
+                          () -> new OrderNotFoundException("Order not found: " + orderId));
+              current.setPaymentId(paymentId);
+              current.setPaymentStatus(paymentStatus);
+              current.setPaymentMethod(paymentMethod);
+              orderCache.evictAfterCommit(orderId);
+              return orderRepository.saveAndFlush(current);
+            });
 
     log.info(
         "Order {} payment info updated: paymentId={}, status={}",
@@ -180,45 +221,41 @@ public class OrderService {
   @Transactional
   public void updateShipmentInfo(
       Long orderId, String shipmentId, String trackingNumber) {
-    Order order =
-        orderRepository
-            .findById(orderId)
-            .orElseThrow(
-                () -> new OrderNotFoundException("Order not found: " + orderId));
-
-    order.setShipmentId(shipmentId);
-    order.setTrackingNumber(trackingNumber);
-    order.setShippedAt(LocalDateTime.now());
-    order.setStatus(OrderStatus.SHIPPED);
-    orderRepository.save(order);
+    OrderStatusGuard.Result result =
+        statusGuard.transition(
+            orderId,
+            StatusChange.to(OrderStatus.SHIPPED)
+                .set("shipment_id", shipmentId)
+                .set("tracking_number", trackingNumber),
+            null);
+    requireTransition(orderId, OrderStatus.SHIPPED, result);
 
     log.info(
         "Order {} shipment info updated: shipmentId={}, trackingNumber={}",
-        order.getOrderNumber(),
+        orderId,
         shipmentId,
         trackingNumber);
   }
 
   @Transactional
   public void cancelOrder(Long orderId, String reason) {
-    Order order =
-        orderRepository
-            .findById(orderId)
-            .orElseThrow(
-                () -> new OrderNotFoundException("Order not found: " + orderId));
-
-    OrderStatus oldStatus = order.getStatus();
-    order.setStatus(OrderStatus.CANCELLED);
-    orderRepository.save(order);
+    OrderStatusGuard.Result result =
+        statusGuard.transition(orderId, StatusChange.to(OrderStatus.CANCELLED), reason);
+    requireTransition(orderId, OrderStatus.CANCELLED, result);
 
-    log.info("Order {} cancelled. Reason: {}", order.getOrderNumber(), reason);
+    log.info("Order {} cancelled. Reason: {}", orderId, reason);
+  }
 
-    // Publish status changed event
-    publishOrderStatusChangedEvent(order, oldStatus, OrderStatus.CANCELLED, reason);
+  private static void requireTransition(
+      Long orderId, OrderStatus target, OrderStatusGuard.Result result) {
+    if (result.outcome() == OrderStatusGuard.Outcome.CONFLICT) {
+      throw new InvalidStatusTransitionException(
+          "Order " + orderId + " cannot move from " + result.status() + " to " + target);
+    }
   }
 
   private String generateOrderNumber() {
-    return "ORD-" + System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    return IdFormat.base32("ORD-", idGenerator.nextId());
   }
 
   private void publishOrderCreatedEvent(Order order) {
@@ -244,24 +281,35 @@ public class OrderService {
             .totalAmount(order.getTotalAmount())
             .customerEmail(order.getCustomerEmail())
             .customerName(order.getCustomerName())
+            .customerPhone(order.getCustomerPhone())
+            .status(order.getStatus().name())
             .createdAt(order.getCreatedAt())
+            .currency(order.getCurrency())
+            .shippingPostalCode(order.getShippingPostalCode())
+            .shippingCountry(order.getShippingCountry())
             .build();
 
     eventPublisher.publishOrderCreated(event);
   }
 
-  private void publishOrderStatusChangedEvent(
-      Order order, OrderStatus oldStatus, OrderStatus newStatus, String reason) {
-    OrderStatusChangedEvent event =
-        OrderStatusChangedEvent.builder()
-            .orderId(order.getId())
-            .orderNumber(order.getOrderNumber())
-            .oldStatus(oldStatus)
-            .newStatus(newStatus)
-            .reason(reason)
-            .changedAt(LocalDateTime.now())
-            .build();
+  private record HistoryCursor(LocalDateTime createdAt, Long id) {
 
-    eventPublisher.publishOrderStatusChanged(event);
+    String encode() {
+      String raw = createdAt + "|" + id;
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static HistoryCursor decode(String cursor) {
+      try {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int sep = raw.indexOf('|');
+        return new HistoryCursor(
+            LocalDateTime.parse(raw.substring(0, sep)), Long.valueOf(raw.substring(sep + 1)));
+      } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+        throw new InvalidCursorException("Invalid cursor: " + cursor);
+      }
+    }
   }
 }
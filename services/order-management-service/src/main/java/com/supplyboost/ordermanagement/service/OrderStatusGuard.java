@@ -0,0 +1,136 @@
+package com.supplyboost.ordermanagement.service;
+
+import com.supplyboost.events.OrderStatusChangedEvent;
+import com.supplyboost.ordermanagement.cache.OrderCache;
+import com.supplyboost.ordermanagement.event.OrderEventPublisher;
+import com.supplyboost.ordermanagement.exception.InvalidStatusTransitionException;
+import com.supplyboost.ordermanagement.exception.OrderNotFoundException;
+import com.supplyboost.ordermanagement.model.OrderStatus;
+import com.supplyboost.ordermanagement.model.OrderStatusTransitions;
+import com.supplyboost.ordermanagement.repository.OrderStatusRepository;
+import com.supplyboost.ordermanagement.repository.OrderStatusRepository.StatusChange;
+import com.supplyboost.ordermanagement.repository.OrderStatusRepository.StatusTransition;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The single way an order changes status. A transition is a compare-and-set {@code UPDATE} (see
+ * {@link OrderStatusRepository}), so concurrent saga events and API calls are serialized by the row
+ * lock and the loser finds a status it may no longer leave, without any entity being loaded.
+ * Applied transitions publish {@code order.status.changed} and evict the cached order, both once
+ * the transaction commits.
+ */
+@Slf4j
+@Component
+public class OrderStatusGuard {
+
+  private static final int MAX_ATTEMPTS = 3;
+
+  private final OrderStatusRepository orderStatusRepository;
+  private final OrderEventPublisher eventPublisher;
+  private final OrderCache orderCache;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+
+  public OrderStatusGuard(
+      OrderStatusRepository orderStatusRepository,
+      OrderEventPublisher eventPublisher,
+      OrderCache orderCache,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry) {
+    this.orderStatusRepository = orderStatusRepository;
+    this.eventPublisher = eventPublisher;
+    this.orderCache = orderCache;
+    this.transactionTemplate = transactionTemplate;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public enum Outcome {
+    APPLIED,
+    /** The order already had the target status; nothing was written. */
+    UNCHANGED,
+    /** The target is not reachable from the order's current status. */
+    CONFLICT
+  }
+
+  /**
+   * @param status the status the order moved from when applied, its current status otherwise
+   */
+  public record Result(Outcome outcome, OrderStatus status) {}
+
+  /**
+   * Applies {@code change} within the caller's transaction.
+   *
+   * @throws InvalidStatusTransitionException if no status leads to the target, such as {@code
+   *     CREATED}
+   */
+  public Result transition(Long orderId, StatusChange change, String reason) {
+    OrderStatus target = change.getTarget();
+    if (OrderStatusTransitions.sourcesOf(target).isEmpty()) {
+      throw new InvalidStatusTransitionException("No order can be moved to " + target);
+    }
+    LocalDateTime now = LocalDateTime.now();
+    Optional<StatusTransition> applied = orderStatusRepository.transition(orderId, change, now);
+    if (applied.isPresent()) {
+      StatusTransition transition = applied.get();
+      eventPublisher.publishOrderStatusChanged(
+          OrderStatusChangedEvent.builder()
+              .orderId(orderId)
+              .orderNumber(transition.orderNumber())
+              .oldStatus(transition.previousStatus().name())
+              .newStatus(target.name())
+              .reason(reason)
+              .changedAt(now)
+              .build());
+      orderCache.evictAfterCommit(orderId);
+      return record(target, new Result(Outcome.APPLIED, transition.previousStatus()));
+    }
+
+    OrderStatus current =
+        orderStatusRepository
+            .findStatus(orderId)
+            .orElseThrow(() -> new OrderNotFoundException("Order not found: " + orderId));
+    if (current == target) {
+      return record(target, new Result(Outcome.UNCHANGED, current));
+    }
+    log.warn("Order {} cannot move from {} to {}", orderId, current, target);
+    return record(target, new Result(Outcome.CONFLICT, current));
+  }
+
+  /**
+   * Runs an entity read-modify-write in a transaction of its own, retrying when another writer
+   * bumped the order's version in between.
+   */
+  public <T> T retryOnVersionConflict(String operation, Supplier<T> work) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transactionTemplate.execute(tx -> work.get());
+      } catch (OptimisticLockingFailureException e) {
+        if (attempt == MAX_ATTEMPTS) {
+          meterRegistry.counter("orders.update.conflicts", "operation", operation).increment();
+          throw e;
+        }
+        meterRegistry.counter("orders.update.retries", "operation", operation).increment();
+        log.debug("Version conflict on {}, attempt {} of {}", operation, attempt, MAX_ATTEMPTS);
+      }
+    }
+  }
+
+  private Result record(OrderStatus target, Result result) {
+    meterRegistry
+        .counter(
+            "orders.status.transitions",
+            "target",
+            target.name(),
+            "outcome",
+            result.outcome().name().toLowerCase())
+        .increment();
+    return result;
+  }
+}
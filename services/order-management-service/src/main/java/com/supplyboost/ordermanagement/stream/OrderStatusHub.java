@@ -0,0 +1,277 @@
+package com.supplyboost.ordermanagement.stream;
+
+import com.supplyboost.ordermanagement.dto.OrderStatusUpdate;
+import com.supplyboost.ordermanagement.exception.SubscriberLimitExceededException;
+import com.supplyboost.ordermanagement.model.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.EnumSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * In-process fan-out of order status changes to SSE subscribers of this instance.
+ *
+ * <p>An idle subscriber is only an async request parked in Tomcat's NIO connector, holding no
+ * thread, so the ceiling is the connection limit rather than the thread pool. A periodic comment
+ * line keeps proxies from closing idle streams and surfaces dead clients. Streams end when the
+ * order reaches a final status or after the configured timeout, after which EventSource reconnects.
+ *
+ * <p>A subscriber is registered before the current status is read, so a change committed in between
+ * is not lost. Updates older than what a subscriber has already seen are dropped, by their change
+ * time, so a late event never shows an outdated status.
+ *
+ * <p>Publishing and heartbeats only queue work per subscriber; a small sender pool does the
+ * blocking writes, one subscriber at a time. The Kafka listener and the scheduler therefore never
+ * wait on a client. A subscriber whose backlog reaches {@code max-pending} is closed, and its
+ * EventSource reconnects and starts over from a fresh snapshot.
+ */
+@Slf4j
+@Component
+public class OrderStatusHub {
+
+  private static final Set<OrderStatus> FINAL_STATUSES =
+      EnumSet.of(
+          OrderStatus.DELIVERED,
+          OrderStatus.CANCELLED,
+          OrderStatus.REFUNDED,
+          OrderStatus.PAYMENT_FAILED);
+
+  /** Queued in place of an update to send a keep-alive comment. */
+  private static final Object HEARTBEAT = new Object();
+
+  private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final AtomicInteger subscriberCount = new AtomicInteger();
+  private final Duration timeout;
+  private final int maxSubscribers;
+  private final int maxPending;
+  private final ThreadPoolExecutor senders;
+  private final Counter slowSubscribers;
+
+  public OrderStatusHub(
+      MeterRegistry meterRegistry,
+      @Value("${orders.status-stream.timeout:PT30M}") Duration timeout,
+      @Value("${orders.status-stream.max-subscribers:50000}") int maxSubscribers,
+      @Value("${orders.status-stream.max-pending:16}") int maxPending,
+      @Value("${orders.status-stream.sender-threads:4}") int senderThreads) {
+    this.timeout = timeout;
+    this.maxSubscribers = maxSubscribers;
+    this.maxPending = maxPending;
+    AtomicInteger threads = new AtomicInteger();
+    // A subscriber has at most one drain task queued, so this queue never overflows in practice
+    this.senders =
+        new ThreadPoolExecutor(
+            senderThreads,
+            senderThreads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(maxSubscribers),
+            task -> new Thread(task, "status-stream-sender-" + threads.incrementAndGet()));
+    meterRegistry.gauge("orders.status.stream.subscribers", subscriberCount);
+    this.slowSubscribers =
+        Counter.builder("orders.status.stream.dropped")
+            .description("Status subscribers closed because they fell behind")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Opens a stream for an order. {@code current} is read once the stream is registered and sent as
+   * its first event, unless a newer change has already gone out. If it throws, the stream is
+   * dropped and the exception propagates.
+   */
+  public SseEmitter subscribe(Long orderId, Supplier<OrderStatusUpdate> current) {
+    if (subscriberCount.incrementAndGet() > maxSubscribers) {
+      subscriberCount.decrementAndGet();
+      throw new SubscriberLimitExceededException(
+          "Too many status subscribers, retry later or poll the order");
+    }
+    Subscriber subscriber = new Subscriber(new SseEmitter(timeout.toMillis()));
+    subscribers.compute(
+        orderId,
+        (id, set) -> {
+          Set<Subscriber> result = set != null ? set : ConcurrentHashMap.newKeySet();
+          result.add(subscriber);
+          return result;
+        });
+    subscriber.emitter.onCompletion(() -> close(orderId, subscriber));
+    subscriber.emitter.onError(e -> close(orderId, subscriber));
+
+    OrderStatusUpdate snapshot;
+    try {
+      snapshot = current.get();
+    } catch (RuntimeException e) {
+      close(orderId, subscriber);
+      throw e;
+    }
+    enqueue(orderId, subscriber, snapshot);
+    return subscriber.emitter;
+  }
+
+  public void publish(OrderStatusUpdate update) {
+    Set<Subscriber> set = subscribers.get(update.getOrderId());
+    if (set == null) {
+      return;
+    }
+    for (Subscriber subscriber : set) {
+      enqueue(update.getOrderId(), subscriber, update);
+    }
+  }
+
+  @Scheduled(
+      fixedRateString = "${orders.status-stream.heartbeat:PT30S}",
+      initialDelayString = "${orders.status-stream.heartbeat:PT30S}")
+  public void heartbeat() {
+    subscribers.forEach(
+        (orderId, set) -> {
+          for (Subscriber subscriber : set) {
+            enqueue(orderId, subscriber, null);
+          }
+        });
+  }
+
+  @PreDestroy
+  void shutdown() {
+    senders.shutdownNow();
+  }
+
+  /** Queues an update, or a heartbeat if {@code update} is null, and starts a drain if idle. */
+  private void enqueue(Long orderId, Subscriber subscriber, OrderStatusUpdate update) {
+    boolean slow = false;
+    synchronized (subscriber) {
+      if (subscriber.closed || (update == null && subscriber.draining)) {
+        // A busy stream needs no keep-alive
+        return;
+      }
+      if (subscriber.pending.size() >= maxPending) {
+        slow = true;
+        subscriber.closed = true;
+        subscriber.pending.clear();
+      } else {
+        subscriber.pending.add(update != null ? update : HEARTBEAT);
+        if (subscriber.draining) {
+          return;
+        }
+        subscriber.draining = true;
+      }
+    }
+    if (slow) {
+      // The drain in progress completes the emitter once its current write returns
+      log.debug("Dropping slow status subscriber of order {}", orderId);
+      slowSubscribers.increment();
+      remove(orderId, subscriber);
+      return;
+    }
+    try {
+      senders.execute(() -> drain(orderId, subscriber));
+    } catch (RejectedExecutionException e) {
+      close(orderId, subscriber);
+    }
+  }
+
+  /** Runs on a sender thread; only one drain per subscriber runs at a time. */
+  private void drain(Long orderId, Subscriber subscriber) {
+    while (true) {
+      Object next;
+      boolean closed;
+      synchronized (subscriber) {
+        closed = subscriber.closed;
+        next = closed ? null : subscriber.pending.poll();
+        if (next == null) {
+          subscriber.pending.clear();
+          subscriber.draining = false;
+        }
+      }
+      if (closed) {
+        subscriber.emitter.complete();
+        return;
+      }
+      if (next == null) {
+        return;
+      }
+      try {
+        if (next == HEARTBEAT) {
+          subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+        } else {
+          send(orderId, subscriber, (OrderStatusUpdate) next);
+        }
+      } catch (IOException | IllegalStateException e) {
+        log.debug("Dropping status subscriber of order {}: {}", orderId, e.getMessage());
+        close(orderId, subscriber);
+      }
+    }
+  }
+
+  private void send(Long orderId, Subscriber subscriber, OrderStatusUpdate update)
+      throws IOException {
+    LocalDateTime changedAt = update.getChangedAt();
+    if (subscriber.lastChangedAt != null
+        && changedAt != null
+        && changedAt.isBefore(subscriber.lastChangedAt)) {
+      return;
+    }
+    subscriber.emitter.send(SseEmitter.event().name("status").data(update));
+    if (changedAt != null) {
+      subscriber.lastChangedAt = changedAt;
+    }
+    if (FINAL_STATUSES.contains(update.getStatus())) {
+      close(orderId, subscriber);
+    }
+  }
+
+  private void close(Long orderId, Subscriber subscriber) {
+    synchronized (subscriber) {
+      subscriber.closed = true;
+    }
+    remove(orderId, subscriber);
+  }
+
+  private void remove(Long orderId, Subscriber subscriber) {
+    subscribers.computeIfPresent(
+        orderId,
+        (id, set) -> {
+          if (set.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+          }
+          return set.isEmpty() ? null : set;
+        });
+  }
+
+  private static final class Subscriber {
+
+    private final SseEmitter emitter;
+
+    /** Updates and heartbeats not yet written; guarded by the subscriber's monitor. */
+    private final Queue<Object> pending = new ArrayDeque<>();
+
+    /** A drain is queued or running; guarded by the subscriber's monitor. */
+    private boolean draining;
+
+    /** No further writes; the draining thread completes the emitter. */
+    private boolean closed;
+
+    /** Change time of the newest update sent; only touched by the draining thread. */
+    private LocalDateTime lastChangedAt;
+
+    private Subscriber(SseEmitter emitter) {
+      this.emitter = emitter;
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.supplyboost.ordermanagement.stream;
+
+import com.supplyboost.events.OrderStatusChangedEvent;
+import com.supplyboost.events.serde.EventSerdeConfig;
+import com.supplyboost.ordermanagement.dto.OrderStatusUpdate;
+import com.supplyboost.ordermanagement.model.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds {@link OrderStatusHub} from {@code order.status.changed}. Subscribers may be connected to
+ * any instance, so each instance consumes the whole topic in a group of its own, starting from the
+ * latest offset.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatusStreamListener {
+
+  private final OrderStatusHub statusHub;
+
+  @KafkaListener(
+      topics = "order.status.changed",
+      groupId = "order-status-stream-${random.uuid}",
+      containerFactory = "broadcastKafkaListenerContainerFactory",
+      properties = {
+        EventSerdeConfig.VALUE_TYPE + "=com.supplyboost.events.OrderStatusChangedEvent",
+        "auto.offset.reset=latest"
+      })
+  public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+    statusHub.publish(
+        OrderStatusUpdate.builder()
+            .orderId(event.getOrderId())
+            .orderNumber(event.getOrderNumber())
+            .status(OrderStatus.valueOf(event.getNewStatus()))
+            .reason(event.getReason())
+            .changedAt(event.getChangedAt())
+            .build());
+  }
+}
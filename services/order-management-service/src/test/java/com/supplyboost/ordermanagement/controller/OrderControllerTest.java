@@ -0,0 +1,69 @@
+package com.supplyboost.ordermanagement.controller;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.supplyboost.ids.SnowflakeIdGenerator;
+import com.supplyboost.ordermanagement.cache.OrderCache;
+import com.supplyboost.ordermanagement.client.ShoppingCartClient;
+import com.supplyboost.ordermanagement.config.SecurityConfig;
+import com.supplyboost.ordermanagement.event.OrderEventPublisher;
+import com.supplyboost.ordermanagement.mapper.OrderMapper;
+import com.supplyboost.ordermanagement.repository.OrderItemRepository;
+import com.supplyboost.ordermanagement.repository.OrderRepository;
+import com.supplyboost.ordermanagement.repository.OrderStatusRepository;
+import com.supplyboost.ordermanagement.service.BulkOrderStatusService;
+import com.supplyboost.ordermanagement.service.OrderService;
+import com.supplyboost.ordermanagement.service.OrderStatusGuard;
+import com.supplyboost.ordermanagement.stream.OrderStatusHub;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@WebMvcTest(OrderController.class)
+@Import({SecurityConfig.class, OrderService.class, OrderStatusGuard.class})
+class OrderControllerTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockBean private OrderRepository orderRepository;
+  @MockBean private OrderItemRepository orderItemRepository;
+  @MockBean private OrderStatusRepository orderStatusRepository;
+  @MockBean private ShoppingCartClient shoppingCartClient;
+  @MockBean private OrderMapper orderMapper;
+  @MockBean private OrderEventPublisher eventPublisher;
+  @MockBean private SnowflakeIdGenerator idGenerator;
+  @MockBean private OrderCache orderCache;
+  @MockBean private TransactionTemplate transactionTemplate;
+  @MockBean private BulkOrderStatusService bulkOrderStatusService;
+  @MockBean private OrderStatusHub statusHub;
+
+  @TestConfiguration
+  static class Metrics {
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+
+  @Test
+  void updateOrderStatus_ShouldRejectTargetWithoutSources() throws Exception {
+    // Act & Assert: no status leads back to CREATED
+    mockMvc
+        .perform(put("/api/v1/orders/42/status").param("status", "CREATED"))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.message").value("No order can be moved to CREATED"));
+
+    verifyNoInteractions(orderStatusRepository, eventPublisher);
+  }
+}
@@ -1,8 +1,9 @@
 package com.supplyboost.payment.event;
 
+import com.supplyboost.events.PaymentProcessedEvent;
+import com.supplyboost.messaging.producer.EventSender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -10,19 +11,15 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class PaymentEventPublisher {
 
-  private final KafkaTemplate<String, Object> kafkaTemplate;
+  private final EventSender eventSender;
 
   private static final String PAYMENT_PROCESSED_TOPIC = "payment.processed";
 
-  public void publishPaymentProcessed(PaymentEvent event) {
-    try {
-      kafkaTemplate.send(PAYMENT_PROCESSED_TOPIC, event.getPaymentNumber(), event);
-      log.info(
-          "Published payment processed event for payment: {} with status: {}",
-          event.getPaymentNumber(),
-          event.getStatus());
-    } catch (Exception e) {
-      log.error("Failed to publish payment processed event", e);
-    }
+  public void publishPaymentProcessed(PaymentProcessedEvent event) {
+    eventSender.send(PAYMENT_PROCESSED_TOPIC, event.getPaymentNumber(), event);
+    log.info(
+        "Published payment processed event for payment: {} with status: {}",
+        event.getPaymentNumber(),
+        event.getStatus());
   }
 }
@@ -19,7 +19,11 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class Payment {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_id_seq")
+  @SequenceGenerator(
+      name = "payments_id_seq",
+      sequenceName = "payments_id_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(name = "payment_id", unique = true, nullable = false)
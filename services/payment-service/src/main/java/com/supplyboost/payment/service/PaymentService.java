@@ -5,10 +5,12 @@ import com.stripe.model.PaymentIntent;
 import com.stripe.model.Refund;
 import com.stripe.param.PaymentIntentCreateParams;
 import com.stripe.param.RefundCreateParams;
+import com.supplyboost.events.PaymentProcessedEvent;
+import com.supplyboost.ids.IdFormat;
+import com.supplyboost.ids.SnowflakeIdGenerator;
 import com.supplyboost.payment.dto.CreatePaymentRequest;
 import com.supplyboost.payment.dto.PaymentResponse;
 import com.supplyboost.payment.dto.RefundRequest;
-import com.supplyboost.payment.event.PaymentEvent;
 import com.supplyboost.payment.event.PaymentEventPublisher;
 import com.supplyboost.payment.exception.PaymentNotFoundException;
 import com.supplyboost.payment.exception.PaymentProcessingException;
@@ -34,6 +36,7 @@ public class PaymentService {
   private final PaymentRepository paymentRepository;
   private final PaymentMapper paymentMapper;
   private final PaymentEventPublisher eventPublisher;
+  private final SnowflakeIdGenerator idGenerator;
 
   @Value("${payment.mode:mock}")
   private String paymentMode;
@@ -227,8 +230,8 @@ public class PaymentService {
   }
 
   private void publishPaymentEvent(Payment payment) {
-    PaymentEvent event =
-        PaymentEvent.builder()
+    PaymentProcessedEvent event =
+        PaymentProcessedEvent.builder()
             .paymentId(payment.getId())
             .paymentNumber(payment.getPaymentId())
             .orderId(payment.getOrderId())
@@ -236,8 +239,10 @@ public class PaymentService {
             .userId(payment.getUserId())
             .amount(payment.getAmount())
             .currency(payment.getCurrency())
-            .status(payment.getStatus())
+            .status(payment.getStatus().name())
             .paymentMethod(payment.getPaymentMethod())
+            .customerEmail(payment.getCustomerEmail())
+            .customerName(payment.getCustomerName())
             .failureReason(payment.getFailureReason())
             .eventTime(LocalDateTime.now())
             .build();
@@ -246,9 +251,6 @@ public class PaymentService {
   }
 
   private String generatePaymentId() {
-    return "PAY-"
-        + System.currentTimeMillis()
-        + "-"
-        + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    return IdFormat.base32("PAY-", idGenerator.nextId());
   }
 }
@@ -0,0 +1,43 @@
+package com.supplyboost.shipping.consumer;
+
+import com.supplyboost.events.ShipmentRequestedEvent;
+import com.supplyboost.shipping.dto.CreateShipmentRequest;
+import com.supplyboost.shipping.service.ShipmentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShipmentRequestConsumer {
+
+  private final ShipmentService shipmentService;
+
+  @KafkaListener(topics = "shipment.requested", groupId = "shipping-service-group")
+  public void handleShipmentRequested(ShipmentRequestedEvent event) {
+    log.info(
+        "Received shipment request for order: {} with correlation ID: {}",
+        event.getOrderNumber(),
+        event.getCorrelationId());
+
+    CreateShipmentRequest request =
+        CreateShipmentRequest.builder()
+            .orderId(event.getOrderId())
+            .orderNumber(event.getOrderNumber())
+            .userId(event.getUserId())
+            .recipientName(event.getRecipientName())
+            .recipientEmail(event.getRecipientEmail())
+            .recipientPhone(event.getRecipientPhone())
+            .addressLine1(event.getAddressLine1())
+            .addressLine2(event.getAddressLine2())
+            .city(event.getCity())
+            .state(event.getState())
+            .postalCode(event.getPostalCode())
+            .country(event.getCountry())
+            .build();
+
+    shipmentService.createShipment(request, event.getCorrelationId());
+  }
+}
@@ -1,8 +1,10 @@
 package com.supplyboost.shipping.event;
 
+import com.supplyboost.events.ShipmentEvent;
+import com.supplyboost.messaging.EventHeaders;
+import com.supplyboost.messaging.producer.EventSender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -10,29 +12,30 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ShipmentEventPublisher {
 
-  private final KafkaTemplate<String, Object> kafkaTemplate;
+  private final EventSender eventSender;
 
   private static final String SHIPMENT_CREATED_TOPIC = "shipment.created";
   private static final String SHIPMENT_STATUS_UPDATED_TOPIC = "shipment.status.updated";
 
+  /**
+   * The event ID is derived from the shipment and the request's correlation ID, so the reply to a
+   * redelivered request is dropped downstream as a duplicate instead of handled twice.
+   */
   public void publishShipmentCreated(ShipmentEvent event) {
-    try {
-      kafkaTemplate.send(SHIPMENT_CREATED_TOPIC, event.getShipmentNumber(), event);
-      log.info("Published shipment created event for: {}", event.getShipmentNumber());
-    } catch (Exception e) {
-      log.error("Failed to publish shipment created event", e);
-    }
+    eventSender.send(
+        SHIPMENT_CREATED_TOPIC,
+        event.getShipmentNumber(),
+        event,
+        EventHeaders.eventIdOf(
+            SHIPMENT_CREATED_TOPIC, event.getShipmentNumber(), event.getCorrelationId()));
+    log.info("Published shipment created event for: {}", event.getShipmentNumber());
   }
 
   public void publishShipmentStatusUpdated(ShipmentEvent event) {
-    try {
-      kafkaTemplate.send(SHIPMENT_STATUS_UPDATED_TOPIC, event.getShipmentNumber(), event);
-      log.info(
-          "Published shipment status updated event for: {} to status: {}",
-          event.getShipmentNumber(),
-          event.getStatus());
-    } catch (Exception e) {
-      log.error("Failed to publish shipment status updated event", e);
-    }
+    eventSender.send(SHIPMENT_STATUS_UPDATED_TOPIC, event.getShipmentNumber(), event);
+    log.info(
+        "Published shipment status updated event for: {} to status: {}",
+        event.getShipmentNumber(),
+        event.getStatus());
   }
 }
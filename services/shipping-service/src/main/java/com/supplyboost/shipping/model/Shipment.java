@@ -18,7 +18,11 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class Shipment {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shipments_id_seq")
+  @SequenceGenerator(
+      name = "shipments_id_seq",
+      sequenceName = "shipments_id_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(name = "shipment_id", unique = true, nullable = false)
@@ -1,8 +1,10 @@
 package com.supplyboost.shipping.service;
 
+import com.supplyboost.events.ShipmentEvent;
+import com.supplyboost.ids.IdFormat;
+import com.supplyboost.ids.SnowflakeIdGenerator;
 import com.supplyboost.shipping.dto.CreateShipmentRequest;
 import com.supplyboost.shipping.dto.ShipmentResponse;
-import com.supplyboost.shipping.event.ShipmentEvent;
 import com.supplyboost.shipping.event.ShipmentEventPublisher;
 import com.supplyboost.shipping.exception.ShipmentNotFoundException;
 import com.supplyboost.shipping.mapper.ShipmentMapper;
@@ -11,8 +13,8 @@ import com.supplyboost.shipping.model.ShipmentStatus;
 import com.supplyboost.shipping.repository.ShipmentRepository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Random;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,9 +28,30 @@ public class ShipmentService {
   private final ShipmentRepository shipmentRepository;
   private final ShipmentMapper shipmentMapper;
   private final ShipmentEventPublisher eventPublisher;
+  private final SnowflakeIdGenerator idGenerator;
 
   @Transactional
   public ShipmentResponse createShipment(CreateShipmentRequest request) {
+    return createShipment(request, null);
+  }
+
+  /**
+   * Creates a shipment in reply to a request carrying {@code correlationId}. A redelivered request
+   * for an order that already has a shipment re-publishes the existing shipment instead of
+   * creating a second one, under the same event ID as the first reply.
+   */
+  @Transactional
+  public ShipmentResponse createShipment(CreateShipmentRequest request, String correlationId) {
+    Optional<Shipment> existing = shipmentRepository.findByOrderId(request.getOrderId());
+    if (existing.isPresent()) {
+      log.info(
+          "Shipment {} already exists for order: {}",
+          existing.get().getShipmentId(),
+          request.getOrderNumber());
+      publishShipmentEvent(existing.get(), correlationId);
+      return shipmentMapper.toShipmentResponse(existing.get());
+    }
+
     Shipment shipment =
         Shipment.builder()
             .shipmentId(generateShipmentId())
@@ -61,7 +84,7 @@ public class ShipmentService {
         savedShipment.getTrackingNumber());
 
     // Publish shipment created event
-    publishShipmentEvent(savedShipment);
+    publishShipmentEvent(savedShipment, correlationId);
 
     return shipmentMapper.toShipmentResponse(savedShipment);
   }
@@ -140,18 +163,12 @@ public class ShipmentService {
   }
 
   private String generateShipmentId() {
-    return "SHIP-"
-        + System.currentTimeMillis()
-        + "-"
-        + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    return IdFormat.base32("SHIP-", idGenerator.nextId());
   }
 
   private String generateTrackingNumber() {
-    // Generate a realistic-looking tracking number
-    Random random = new Random();
-    return "1Z"
-        + String.format("%06d", random.nextInt(1000000))
-        + String.format("%08d", random.nextInt(100000000));
+    // Numeric like a carrier tracking number, and unique unlike a random one
+    return IdFormat.decimal("1Z", idGenerator.nextId());
   }
 
   private LocalDateTime calculateEstimatedDelivery() {
@@ -159,17 +176,20 @@ public class ShipmentService {
     return LocalDateTime.now().plusDays(3 + new Random().nextInt(3));
   }
 
-  private void publishShipmentEvent(Shipment shipment) {
+  private void publishShipmentEvent(Shipment shipment, String correlationId) {
     ShipmentEvent event =
         ShipmentEvent.builder()
+            .correlationId(correlationId)
             .shipmentId(shipment.getId())
             .shipmentNumber(shipment.getShipmentId())
             .trackingNumber(shipment.getTrackingNumber())
             .orderId(shipment.getOrderId())
             .orderNumber(shipment.getOrderNumber())
             .userId(shipment.getUserId())
-            .status(shipment.getStatus())
+            .status(shipment.getStatus().name())
             .carrier(shipment.getCarrier())
+            .recipientName(shipment.getRecipientName())
+            .recipientEmail(shipment.getRecipientEmail())
             .estimatedDelivery(shipment.getEstimatedDelivery())
             .eventTime(LocalDateTime.now())
             .build();
@@ -186,8 +206,10 @@ public class ShipmentService {
             .orderId(shipment.getOrderId())
             .orderNumber(shipment.getOrderNumber())
             .userId(shipment.getUserId())
-            .status(shipment.getStatus())
+            .status(shipment.getStatus().name())
             .carrier(shipment.getCarrier())
+            .recipientName(shipment.getRecipientName())
+            .recipientEmail(shipment.getRecipientEmail())
             .estimatedDelivery(shipment.getEstimatedDelivery())
             .eventTime(LocalDateTime.now())
             .build();